@@ -0,0 +1,133 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.checkstyle.autofix.parser.ChangeScope;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.CheckstyleAudit;
+import org.checkstyle.autofix.parser.ConfigurationLoader;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.ScanningRecipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.JavaSourceFile;
+
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+/**
+ * Fixes the violations found by running Checkstyle in-process instead of reading a report.
+ *
+ * <p>The scanning phase collects the Java source files of the run, and only those files are
+ * audited, once, when the first file is fixed. Violations are streamed from the audit into
+ * the index, so no report is serialized or parsed. With a {@link ChangeScope}, only the
+ * changed files are audited and only violations on changed lines are kept.
+ */
+public class AuditedCheckstyleFixes extends ScanningRecipe<AuditedCheckstyleFixes.Accumulator> {
+
+    private final String configurationPath;
+
+    private final String propertiesPath;
+
+    private final ChangeScope changeScope;
+
+    public AuditedCheckstyleFixes(String configurationPath, String propertiesPath) {
+        this(configurationPath, propertiesPath, null);
+    }
+
+    public AuditedCheckstyleFixes(String configurationPath, String propertiesPath,
+                                  ChangeScope changeScope) {
+        this.configurationPath = configurationPath;
+        this.propertiesPath = propertiesPath;
+        this.changeScope = changeScope;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Checkstyle audit and fixes";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Runs Checkstyle on the Java sources and fixes the supported violations.";
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext executionContext) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator accumulator) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public Tree visit(Tree tree, ExecutionContext executionContext) {
+                if (tree instanceof JavaSourceFile sourceFile
+                        && (changeScope == null
+                            || changeScope.containsFile(sourceFile.getSourcePath()))) {
+                    accumulator.addSourcePath(sourceFile.getSourcePath());
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator accumulator) {
+        accumulator.audit(configurationPath, propertiesPath, changeScope);
+        return CheckstyleRecipeRegistry.getVisitor(accumulator.violations,
+                accumulator.configuration);
+    }
+
+    /**
+     * Source files collected by the scanner and the result of auditing them.
+     */
+    public static final class Accumulator {
+
+        private final List<Path> sourcePaths = new ArrayList<>();
+
+        private ViolationIndex violations;
+
+        private Map<CheckstyleCheck, CheckConfiguration> configuration;
+
+        private synchronized void addSourcePath(Path sourcePath) {
+            sourcePaths.add(sourcePath);
+        }
+
+        private synchronized void audit(String configurationPath, String propertiesPath,
+                                        ChangeScope changeScope) {
+            if (violations == null) {
+                final Configuration checkstyleConfiguration = ConfigurationLoader
+                        .loadCheckstyleConfiguration(configurationPath, propertiesPath);
+                ViolationIndex audited = CheckstyleAudit.audit(checkstyleConfiguration,
+                        sourcePaths);
+                if (changeScope != null) {
+                    audited = changeScope.filter(audited);
+                }
+                configuration = ConfigurationLoader.mapConfiguration(checkstyleConfiguration,
+                        CheckstyleRecipeRegistry.getFixableChecks(audited));
+                violations = audited;
+            }
+        }
+    }
+}
@@ -17,28 +17,58 @@
 
 package org.checkstyle.autofix;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
+import org.checkstyle.autofix.parser.ChangeScope;
 import org.checkstyle.autofix.parser.CheckConfiguration;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.parser.ConfigurationCache;
 import org.checkstyle.autofix.parser.ConfigurationLoader;
-import org.checkstyle.autofix.parser.ReportParser;
-import org.checkstyle.autofix.parser.SarifReportParser;
-import org.checkstyle.autofix.parser.XmlReportParser;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.parser.ViolationReports;
 import org.openrewrite.Option;
 import org.openrewrite.Recipe;
 
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
 /**
  * Main recipe that automatically fixes all supported Checkstyle violations.
+ *
+ * <p>The recipe list is built once and returned again by later calls while the options
+ * and the checksums of the report, configuration, properties and change scope files are
+ * unchanged. A checksum is computed again only when the size or modification time of its
+ * file changes, so a memoized call reads file attributes only.
+ *
+ * <p>On a miss, the configuration is loaded while the report is loaded. The load may fetch
+ * the configuration over the network, so it runs on a dedicated daemon thread rather than
+ * on the common pool that parses and fixes files. It is cancelled and its thread interrupted
+ * when the report has no fixable violation.
  */
 public class CheckstyleAutoFix extends Recipe {
 
+    private static final ExecutorService CONFIGURATION_LOADER =
+            Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "checkstyle-autofix-configuration");
+                thread.setDaemon(true);
+                return thread;
+            });
+
     @Option(displayName = "Violation report path",
-            description = "Path to the checkstyle violation report file."
-                    + " Supported formats: XML, SARIF.",
-            example = "target/checkstyle/checkstyle-report.xml")
+            description = "Path to the checkstyle violation report file, or a comma separated"
+                    + " list of report paths and glob patterns whose reports are merged."
+                    + " Supported formats: XML, SARIF. When omitted, Checkstyle is run"
+                    + " in-process on the Java sources of the run.",
+            example = "target/checkstyle/checkstyle-report.xml",
+            required = false)
     private String violationReportPath;
 
     @Option(displayName = "Checkstyle config path",
@@ -52,6 +82,35 @@ public class CheckstyleAutoFix extends Recipe {
             required = false)
     private String propertiesPath;
 
+    @Option(displayName = "Change scope",
+            description = "Restricts fixing to the files and lines touched by a change: the path"
+                    + " of a unified diff, the path of a file listing changed files one per"
+                    + " line, or git:<ref> to compute the diff against a git reference.",
+            example = "git:origin/main",
+            required = false)
+    private String changeScope;
+
+    @Option(displayName = "Cache directory",
+            description = "Directory where the mapped Checkstyle configuration is cached"
+                    + " between runs. Local configurations are reused while their content and"
+                    + " properties are unchanged.",
+            example = "target/checkstyle-autofix",
+            required = false)
+    private String cacheDirectory;
+
+    @Option(displayName = "Configuration cache time to live",
+            description = "ISO-8601 duration for which a configuration given as a URL is"
+                    + " used from the cache without fetching it again. Defaults to one hour.",
+            example = "PT12H",
+            required = false)
+    private String configurationCacheTtl;
+
+    private final transient FileStamps fileStamps = new FileStamps();
+
+    private transient String recipeListStamp;
+
+    private transient List<Recipe> recipeList;
+
     public CheckstyleAutoFix() {
         // default constructor
     }
@@ -83,32 +142,139 @@ public class CheckstyleAutoFix extends Recipe {
         return propertiesPath;
     }
 
+    public String getChangeScope() {
+        return changeScope;
+    }
+
+    public String getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public String getConfigurationCacheTtl() {
+        return configurationCacheTtl;
+    }
+
     @Override
-    public List<Recipe> getRecipeList() {
-        final ReportParser reportParser = createReportParser(getViolationReportPath());
-        final List<CheckstyleViolation> violations = reportParser
-                .parse(Path.of(getViolationReportPath()));
-        final Map<CheckstyleCheck,
-                CheckConfiguration> configuration = loadCheckstyleConfiguration();
-
-        return CheckstyleRecipeRegistry.getRecipes(violations, configuration);
+    public synchronized List<Recipe> getRecipeList() {
+        final String stamp = stampInputs();
+        if (recipeList == null || !stamp.equals(recipeListStamp)) {
+            recipeList = createRecipeList();
+            recipeListStamp = stamp;
+        }
+        return recipeList;
+    }
+
+    /**
+     * Returns the stamp of the options and of the files the recipe list is built from.
+     *
+     * @return the stamp
+     * @throws IllegalStateException if an input file cannot be read
+     */
+    private String stampInputs() {
+        final StringBuilder result = new StringBuilder();
+        try {
+            result.append(fileStamps.ofLocations(getViolationReportPath(),
+                    getConfigurationPath(), getPropertiesPath(), getChangeScope(),
+                    getCacheDirectory(), getConfigurationCacheTtl()));
+            if (getViolationReportPath() != null) {
+                result.append(fileStamps.of(ViolationReports.resolve(getViolationReportPath())));
+            }
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Failed to read the inputs of the recipe list",
+                    exception);
+        }
+        return result.toString();
     }
 
-    private ReportParser createReportParser(String path) {
-        final ReportParser result;
-        if (path.endsWith(".xml")) {
-            result = new XmlReportParser();
+    private List<Recipe> createRecipeList() {
+        final List<Recipe> result;
+        ChangeScope scope = null;
+        if (getChangeScope() != null) {
+            scope = ChangeScope.load(getChangeScope());
+        }
+        if (getViolationReportPath() == null) {
+            result = List.of(new AuditedCheckstyleFixes(getConfigurationPath(),
+                    getPropertiesPath(), scope));
         }
-        else if (path.endsWith(".sarif") || path.endsWith(".sarif.json")) {
-            result = new SarifReportParser();
+        else {
+            final Future<Function<Set<CheckstyleCheck>,
+                    Map<CheckstyleCheck, CheckConfiguration>>> configuration =
+                    CONFIGURATION_LOADER.submit(this::loadCheckstyleConfiguration);
+            try {
+                ViolationIndex violations = ViolationReports.load(getViolationReportPath());
+                if (scope != null) {
+                    violations = scope.filter(violations);
+                }
+                final Set<CheckstyleCheck> checks =
+                        CheckstyleRecipeRegistry.getFixableChecks(violations);
+                if (checks.isEmpty()) {
+                    result = List.of();
+                }
+                else {
+                    result = CheckstyleRecipeRegistry.getRecipes(violations,
+                            await(configuration).apply(checks));
+                }
+            }
+            finally {
+                // stops loading the configuration if the report failed or needs none of it
+                configuration.cancel(true);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads the configuration and returns the function mapping the reported fixable
+     * checks to their configuration. Without a cache directory, the configuration is
+     * parsed here and the function maps only the modules of the given checks; the cache
+     * holds the whole mapped configuration.
+     *
+     * @return the function mapping checks to their configuration
+     */
+    private Function<Set<CheckstyleCheck>, Map<CheckstyleCheck, CheckConfiguration>>
+            loadCheckstyleConfiguration() {
+        final Function<Set<CheckstyleCheck>, Map<CheckstyleCheck, CheckConfiguration>> result;
+        if (getCacheDirectory() == null) {
+            final Configuration configuration = ConfigurationLoader.loadCheckstyleConfiguration(
+                    getConfigurationPath(), getPropertiesPath());
+            result = checks -> ConfigurationLoader.mapConfiguration(configuration, checks);
         }
         else {
-            throw new IllegalArgumentException("Unsupported report format: " + path);
+            Duration timeToLive = ConfigurationCache.DEFAULT_TIME_TO_LIVE;
+            if (getConfigurationCacheTtl() != null) {
+                timeToLive = Duration.parse(getConfigurationCacheTtl());
+            }
+            final Map<CheckstyleCheck, CheckConfiguration> cached =
+                    ConfigurationCache.load(Path.of(getCacheDirectory()), timeToLive,
+                            getConfigurationPath(), getPropertiesPath());
+            result = checks -> cached;
         }
         return result;
     }
 
-    private Map<CheckstyleCheck, CheckConfiguration> loadCheckstyleConfiguration() {
-        return ConfigurationLoader.loadConfiguration(getConfigurationPath(), getPropertiesPath());
+    /**
+     * Waits for the given future and rethrows the unchecked exception it failed with.
+     *
+     * @param future the future
+     * @param <T> the type of the result
+     * @return the result
+     * @throws IllegalStateException if the future failed with a checked exception or the
+     *     thread was interrupted
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to load configuration", exception.getCause());
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading configuration", exception);
+        }
     }
 }
@@ -17,7 +17,8 @@
 
 package org.checkstyle.autofix;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public enum CheckstyleCheck {
@@ -27,6 +28,13 @@ public enum CheckstyleCheck {
     HEX_LITERAL_CASE("com.puppycrawl.tools.checkstyle.checks.HexLiteralCaseCheck"),
     REDUNDANT_IMPORT("com.puppycrawl.tools.checkstyle.checks.imports.RedundantImportCheck");
 
+    private static final String CHECK_SUFFIX = "Check";
+
+    private static final char RULE_ID_SEPARATOR = '#';
+
+    /** Every accepted spelling of every check: FQCN, simple class name and module name. */
+    private static final Map<String, Optional<CheckstyleCheck>> LOOKUP = createLookup();
+
     private final String id;
 
     CheckstyleCheck(String id) {
@@ -37,9 +45,42 @@ public enum CheckstyleCheck {
         return id;
     }
 
+    /**
+     * Resolves the check reported under the given source, which may be the fully qualified
+     * class name, the simple class name or the module name of the check. A SARIF rule id
+     * suffix such as {@code #moduleId} is ignored.
+     *
+     * @param source the source name from a report or configuration
+     * @return the check, or empty if the source is not supported
+     */
     public static Optional<CheckstyleCheck> fromSource(String source) {
-        return Arrays.stream(values())
-                .filter(check -> check.getId().contains(source))
-                .findFirst();
+        Optional<CheckstyleCheck> result = LOOKUP.get(source);
+        if (result == null) {
+            result = resolveVariant(source);
+        }
+        return result;
+    }
+
+    private static Optional<CheckstyleCheck> resolveVariant(String source) {
+        final int separator = source.indexOf(RULE_ID_SEPARATOR);
+        Optional<CheckstyleCheck> result = Optional.empty();
+        if (separator >= 0) {
+            result = LOOKUP.getOrDefault(source.substring(0, separator), Optional.empty());
+        }
+        return result;
+    }
+
+    private static Map<String, Optional<CheckstyleCheck>> createLookup() {
+        final Map<String, Optional<CheckstyleCheck>> lookup = new HashMap<>();
+        for (CheckstyleCheck check : values()) {
+            final Optional<CheckstyleCheck> resolved = Optional.of(check);
+            final String simpleName = check.id.substring(check.id.lastIndexOf('.') + 1);
+            final String moduleName = simpleName
+                    .substring(0, simpleName.length() - CHECK_SUFFIX.length());
+            lookup.put(check.id, resolved);
+            lookup.put(simpleName, resolved);
+            lookup.put(moduleName, resolved);
+        }
+        return Map.copyOf(lookup);
     }
 }
@@ -17,30 +17,35 @@
 
 package org.checkstyle.autofix;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.checkstyle.autofix.parser.CheckConfiguration;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.recipe.CheckstyleFixer;
+import org.checkstyle.autofix.recipe.CheckstyleFixes;
 import org.checkstyle.autofix.recipe.FinalLocalVariable;
 import org.checkstyle.autofix.recipe.Header;
 import org.checkstyle.autofix.recipe.HexLiteralCase;
 import org.checkstyle.autofix.recipe.RedundantImport;
 import org.checkstyle.autofix.recipe.UpperEll;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
 
 public final class CheckstyleRecipeRegistry {
 
-    private static final EnumMap<CheckstyleCheck, Function<List<CheckstyleViolation>,
-            Recipe>> RECIPE_MAP = new EnumMap<>(CheckstyleCheck.class);
+    private static final EnumMap<CheckstyleCheck, Function<ViolationIndex,
+            CheckstyleFixer>> RECIPE_MAP = new EnumMap<>(CheckstyleCheck.class);
 
-    private static final EnumMap<CheckstyleCheck, BiFunction<List<CheckstyleViolation>,
-            CheckConfiguration, Recipe>> RECIPE_MAP_WITH_CONFIG =
+    private static final EnumMap<CheckstyleCheck, BiFunction<ViolationIndex,
+            CheckConfiguration, CheckstyleFixer>> RECIPE_MAP_WITH_CONFIG =
             new EnumMap<>(CheckstyleCheck.class);
 
     static {
@@ -56,43 +61,89 @@ public final class CheckstyleRecipeRegistry {
     }
 
     /**
-     * Returns a list of Recipe objects based on the given list of Checkstyle violations.
-     * The method groups violations by their check name, finds the matching recipe factory
-     * using the simple name of the check, and applies the factory to generate Recipe instances.
+     * Returns the checks that have violations in the index and a fixer, which are
+     * the only checks whose configuration is needed.
      *
-     * @param violations the list of Checkstyle violations
+     * @param violations the index of Checkstyle violations
+     * @return the fixable reported checks
+     */
+    public static Set<CheckstyleCheck> getFixableChecks(ViolationIndex violations) {
+        final Set<CheckstyleCheck> result = EnumSet.noneOf(CheckstyleCheck.class);
+        for (CheckstyleCheck check : violations.getChecks()) {
+            if (RECIPE_MAP.containsKey(check) || RECIPE_MAP_WITH_CONFIG.containsKey(check)) {
+                result.add(check);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list of Recipe objects based on the given index of Checkstyle violations.
+     * The method creates a fixer for every reported check that is configured and returns
+     * a single recipe that applies all of them in one traversal per file, or an empty list
+     * if no check can be fixed.
+     *
+     * @param violations the index of Checkstyle violations
      * @param config the checkstyle configuration
      * @return a list of generated Recipe objects
      */
-    public static List<Recipe> getRecipes(List<CheckstyleViolation> violations,
+    public static List<Recipe> getRecipes(ViolationIndex violations,
                                           Map<CheckstyleCheck, CheckConfiguration> config) {
-        return violations.stream()
-                .collect(Collectors.groupingBy(CheckstyleViolation::getSource))
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    return createRecipe(entry.getValue(), config.get(entry.getKey()));
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        final List<CheckstyleFixer> fixers = createFixers(violations, config);
+        final List<Recipe> result = new ArrayList<>();
+        if (!fixers.isEmpty()) {
+            result.add(new CheckstyleFixes(violations, fixers));
+        }
+        return result;
     }
 
-    private static Recipe createRecipe(List<CheckstyleViolation> violations,
-                                       CheckConfiguration checkConfig) {
-        Recipe result = null;
-        if (checkConfig != null) {
+    /**
+     * Returns the visitor that fixes the violations of all reported and configured checks
+     * in one traversal per file, for recipes that learn about their violations only after
+     * the recipe list has been built.
+     *
+     * @param violations the index of Checkstyle violations
+     * @param config the checkstyle configuration
+     * @return the visitor, or a no-op visitor if no check can be fixed
+     */
+    public static TreeVisitor<?, ExecutionContext> getVisitor(ViolationIndex violations,
+            Map<CheckstyleCheck, CheckConfiguration> config) {
+        final List<CheckstyleFixer> fixers = createFixers(violations, config);
+        final TreeVisitor<?, ExecutionContext> result;
+        if (fixers.isEmpty()) {
+            result = TreeVisitor.noop();
+        }
+        else {
+            result = new CheckstyleFixes(violations, fixers).getVisitor();
+        }
+        return result;
+    }
+
+    private static List<CheckstyleFixer> createFixers(ViolationIndex violations,
+            Map<CheckstyleCheck, CheckConfiguration> config) {
+        final List<CheckstyleFixer> fixers = new ArrayList<>();
+        for (CheckstyleCheck check : violations.getChecks()) {
+            final CheckConfiguration checkConfig = config.get(check);
+            if (checkConfig != null) {
+                fixers.add(createFixer(violations, checkConfig));
+            }
+        }
+        return fixers;
+    }
 
-            final CheckstyleCheck check = checkConfig.getCheck();
+    private static CheckstyleFixer createFixer(ViolationIndex violations,
+                                               CheckConfiguration checkConfig) {
+        final CheckstyleCheck check = checkConfig.getCheck();
 
-            final BiFunction<List<CheckstyleViolation>, CheckConfiguration,
-                    Recipe> configRecipeFactory = RECIPE_MAP_WITH_CONFIG.get(check);
+        final BiFunction<ViolationIndex, CheckConfiguration,
+                CheckstyleFixer> configRecipeFactory = RECIPE_MAP_WITH_CONFIG.get(check);
 
-            if (configRecipeFactory != null) {
-                result = configRecipeFactory.apply(violations, checkConfig);
-            }
-            else {
-                result = RECIPE_MAP.get(check).apply(violations);
-            }
+        final CheckstyleFixer result;
+        if (configRecipeFactory != null) {
+            result = configRecipeFactory.apply(violations, checkConfig);
+        }
+        else {
+            result = RECIPE_MAP.get(check).apply(violations);
         }
         return result;
     }
@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Stamps of input files that tell whether anything loaded from them must be loaded again.
+ * A stamp holds only the absolute path and CRC32C checksum of every file, so a file that
+ * was rewritten with the same content does not invalidate it.
+ *
+ * <p>The size and modification time of a file are not part of the stamp; they only decide
+ * whether its remembered checksum is computed again, so stamping unchanged files reads only
+ * their attributes. Instances are not thread-safe.
+ */
+final class FileStamps {
+
+    private static final String SEPARATOR = "|";
+
+    private static final String ABSENT = "-";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Map<Path, Checksum> checksums = new LinkedHashMap<>();
+
+    /**
+     * Returns the stamp of the given files.
+     *
+     * @param files the files
+     * @return the stamp
+     * @throws IOException if a file cannot be read
+     */
+    String of(List<Path> files) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        for (Path file : files) {
+            append(result, file);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns the stamp of the given locations. Locations that are not the path of
+     * a regular file, such as URLs or missing files, are stamped by their text only.
+     *
+     * @param locations the locations, null elements are allowed
+     * @return the stamp
+     * @throws IOException if a file cannot be read
+     */
+    String ofLocations(String... locations) throws IOException {
+        final StringBuilder result = new StringBuilder();
+        for (String location : locations) {
+            final Path file = toFile(location);
+            if (file == null) {
+                result.append(location).append(SEPARATOR).append(ABSENT).append(SEPARATOR);
+            }
+            else {
+                append(result, file);
+            }
+        }
+        return result.toString();
+    }
+
+    private static Path toFile(String location) {
+        Path result = null;
+        if (location != null) {
+            try {
+                final Path file = Path.of(location);
+                if (Files.isRegularFile(file)) {
+                    result = file;
+                }
+            }
+            catch (InvalidPathException exception) {
+                // not a path, stamped by its text
+            }
+        }
+        return result;
+    }
+
+    private void append(StringBuilder stamp, Path file) throws IOException {
+        final Path absolutePath = file.toAbsolutePath();
+        final BasicFileAttributes attributes =
+                Files.readAttributes(absolutePath, BasicFileAttributes.class);
+        Checksum checksum = checksums.get(absolutePath);
+        if (checksum == null || checksum.size != attributes.size()
+                || !checksum.modified.equals(attributes.lastModifiedTime())) {
+            checksum = new Checksum(attributes.size(), attributes.lastModifiedTime(),
+                    computeChecksum(absolutePath));
+            checksums.put(absolutePath, checksum);
+        }
+        stamp.append(absolutePath).append(SEPARATOR)
+                .append(Long.toHexString(checksum.value)).append(SEPARATOR);
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        final CRC32C checksum = new CRC32C();
+        try (InputStream input = Files.newInputStream(file)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                checksum.update(buffer, 0, read);
+                read = input.read(buffer);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Checksum of a file with the attributes it was computed for.
+     */
+    private static final class Checksum {
+
+        private final long size;
+
+        private final FileTime modified;
+
+        private final long value;
+
+        private Checksum(long size, FileTime modified, long value) {
+            this.size = size;
+            this.modified = modified;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.recipe.Header;
+
+/**
+ * On-disk cache of fix results keyed by the content of a file, its violations,
+ * the configuration of the fixed checks and the recipe version.
+ *
+ * <p>An entry records either that fixing left the file unchanged or the fixed content.
+ * Files with a matching entry are restored from it and their violations are consumed, so
+ * they are neither patched nor parsed. Hits refresh the modification time of their entry,
+ * and {@link #evict()} deletes the least recently used entries once the directory grows
+ * beyond its size bound. Unreadable or unwritable entries are logged and treated as misses.
+ *
+ * <p>Layout of an entry: a magic number, the format version, a flag telling whether
+ * the file was changed and the fixed content. All numbers are big-endian.
+ */
+final class FixCache {
+
+    private static final Logger LOG = Logger.getLogger(FixCache.class.getName());
+
+    private static final String SUFFIX = ".autofix-fix";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int MAGIC = 0x43534643;
+
+    private static final int VERSION = 1;
+
+    private static final int FLAG_OFFSET = 8;
+
+    private static final int HEADER_SIZE = 9;
+
+    private static final byte UNCHANGED = 0;
+
+    private static final byte FIXED = 1;
+
+    private final Path directory;
+
+    private final long maxSize;
+
+    private final byte[] fingerprint;
+
+    private final Map<Path, String> misses = new LinkedHashMap<>();
+
+    /**
+     * Creates a cache in the given directory.
+     *
+     * @param directory the cache directory, created if missing
+     * @param maxSize the total size of entries in bytes above which entries are evicted
+     * @param configuration the configuration of the fixed checks
+     * @throws IOException if the directory cannot be created
+     */
+    FixCache(Path directory, long maxSize,
+             Map<CheckstyleCheck, CheckConfiguration> configuration) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxSize = maxSize;
+        fingerprint = computeFingerprint(configuration);
+    }
+
+    /**
+     * Restores the given files from their entries and consumes the violations of the
+     * configured checks in restored files. Files without an entry are remembered until
+     * {@link #store(Set)}.
+     *
+     * @param files the files to fix
+     * @param checks the configured checks
+     * @return the files whose content was replaced by a cached fix
+     * @throws IOException if a file cannot be read or written
+     */
+    Set<Path> restore(List<FileViolations> files, Set<CheckstyleCheck> checks)
+            throws IOException {
+        final Set<Path> result = new LinkedHashSet<>();
+        for (FileViolations fileViolations : files) {
+            final Path filePath = fileViolations.getFilePath().toAbsolutePath().normalize();
+            final String key = computeKey(Files.readAllBytes(filePath), fileViolations);
+            final byte[] entry = read(getEntryPath(key));
+            if (entry == null) {
+                misses.put(filePath, key);
+            }
+            else {
+                if (entry[FLAG_OFFSET] == FIXED) {
+                    Files.write(filePath, Arrays.copyOfRange(entry, HEADER_SIZE, entry.length));
+                    result.add(filePath);
+                }
+                for (CheckstyleCheck check : checks) {
+                    fileViolations.consumeAll(check);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result of fixing the files that had no entry.
+     *
+     * @param changed the files changed by fixing
+     * @throws IOException if a changed file cannot be read
+     */
+    void store(Set<Path> changed) throws IOException {
+        for (Map.Entry<Path, String> miss : misses.entrySet()) {
+            byte flag = UNCHANGED;
+            byte[] content = new byte[0];
+            if (changed.contains(miss.getKey())) {
+                flag = FIXED;
+                content = Files.readAllBytes(miss.getKey());
+            }
+            write(getEntryPath(miss.getValue()), flag, content);
+        }
+        misses.clear();
+    }
+
+    /**
+     * Deletes the least recently used entries until the entries fit in the size bound.
+     */
+    void evict() {
+        final List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .forEach(entries::add);
+        }
+        catch (IOException exception) {
+            LOG.log(Level.FINE, "Unable to list fix cache " + directory, exception);
+        }
+        final Map<Path, FileTime> modified = new LinkedHashMap<>();
+        final Map<Path, Long> sizes = new LinkedHashMap<>();
+        for (Path entry : entries) {
+            try {
+                modified.put(entry, Files.getLastModifiedTime(entry));
+                sizes.put(entry, Files.size(entry));
+            }
+            catch (IOException exception) {
+                LOG.log(Level.FINE, "Ignoring unreadable fix cache entry " + entry, exception);
+            }
+        }
+        final List<Path> recentFirst = new ArrayList<>(modified.keySet());
+        recentFirst.sort(Comparator.comparing(modified::get, Comparator.reverseOrder()));
+        long total = 0;
+        for (Path entry : recentFirst) {
+            total += sizes.get(entry);
+            if (total > maxSize) {
+                deleteQuietly(entry);
+            }
+        }
+    }
+
+    private Path getEntryPath(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private String computeKey(byte[] content, FileViolations violations) {
+        final MessageDigest digest = newDigest();
+        digest.update(fingerprint);
+        digest.update(content);
+        final ByteBuffer position = ByteBuffer.allocate(Integer.BYTES * 2);
+        for (int row = 0; row < violations.size(); row++) {
+            update(digest, violations.getCheck(row).name());
+            position.clear();
+            position.putInt(violations.getLine(row)).putInt(violations.getColumn(row));
+            digest.update(position.array());
+            update(digest, violations.getMessage(row));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static byte[] computeFingerprint(
+            Map<CheckstyleCheck, CheckConfiguration> configuration) {
+        final MessageDigest digest = newDigest();
+        update(digest, Integer.toString(VERSION));
+        update(digest, getRecipeVersion());
+        for (CheckstyleCheck check : CheckstyleCheck.values()) {
+            final CheckConfiguration config = configuration.get(check);
+            if (config != null) {
+                update(digest, check.name());
+                config.getProperties().forEach((name, value) -> {
+                    update(digest, name);
+                    update(digest, value);
+                });
+                if (check == CheckstyleCheck.HEADER) {
+                    update(digest, Header.readLicenseHeader(config));
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Returns the implementation version of the recipes, or the modification time of
+     * the jar or directory they are loaded from when the version is not recorded.
+     *
+     * @return the recipe version
+     */
+    private static String getRecipeVersion() {
+        String result = FixCache.class.getPackage().getImplementationVersion();
+        final CodeSource codeSource = FixCache.class.getProtectionDomain().getCodeSource();
+        if (result == null && codeSource != null) {
+            try {
+                result = Files.getLastModifiedTime(Path.of(codeSource.getLocation().toURI()))
+                        .toString();
+            }
+            catch (IOException | URISyntaxException | IllegalArgumentException exception) {
+                LOG.log(Level.FINE, "Unable to determine the recipe version", exception);
+            }
+        }
+        return String.valueOf(result);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        }
+        catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("Missing digest algorithm " + DIGEST_ALGORITHM,
+                    exception);
+        }
+    }
+
+    private static byte[] read(Path entryPath) {
+        byte[] result = null;
+        if (Files.isRegularFile(entryPath)) {
+            try {
+                final byte[] entry = Files.readAllBytes(entryPath);
+                final ByteBuffer buffer = ByteBuffer.wrap(entry);
+                if (entry.length >= HEADER_SIZE && buffer.getInt(0) == MAGIC
+                        && buffer.getInt(Integer.BYTES) == VERSION) {
+                    Files.setLastModifiedTime(entryPath,
+                            FileTime.fromMillis(System.currentTimeMillis()));
+                    result = entry;
+                }
+            }
+            catch (IOException exception) {
+                LOG.log(Level.FINE, "Ignoring unreadable fix cache entry " + entryPath,
+                        exception);
+            }
+        }
+        return result;
+    }
+
+    private static void write(Path entryPath, byte flag, byte[] content) {
+        Path tempPath = null;
+        try {
+            tempPath = Files.createTempFile(entryPath.getParent(),
+                    entryPath.getFileName().toString(), null);
+            final ByteBuffer entry = ByteBuffer.allocate(HEADER_SIZE + content.length)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .put(flag)
+                    .put(content);
+            Files.write(tempPath, entry.array());
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException exception) {
+            LOG.log(Level.FINE, "Unable to write fix cache entry " + entryPath, exception);
+            deleteQuietly(tempPath);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException exception) {
+                LOG.log(Level.FINE, "Unable to delete " + path, exception);
+            }
+        }
+    }
+}
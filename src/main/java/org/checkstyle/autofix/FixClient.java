@@ -0,0 +1,116 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Thin client that asks a running {@link FixDaemon} to fix files.
+ *
+ * <p>Usage: {@code --socket <path> --report <paths> [--files <paths>]}, where the files
+ * option is a comma separated list of the files to fix, every reported file by default.
+ * Files are sent as absolute paths, while report paths are resolved by the daemon.
+ */
+public final class FixClient {
+
+    private static final Logger LOG = Logger.getLogger(FixClient.class.getName());
+
+    private static final String SOCKET_OPTION = "--socket";
+
+    private static final String FILES_OPTION = "--files";
+
+    private static final Set<String> OPTIONS =
+            Set.of(SOCKET_OPTION, Main.REPORT_OPTION, FILES_OPTION);
+
+    private static final String USAGE = "Usage: " + SOCKET_OPTION + " <path> "
+            + Main.REPORT_OPTION + " <paths> [" + FILES_OPTION + " <paths>]";
+
+    private FixClient() {
+        // utility class
+    }
+
+    /**
+     * Sends a fix request and logs the changed files.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the daemon cannot be reached
+     */
+    public static void main(String... args) throws IOException {
+        final Map<String, String> options = Main.parseOptions(OPTIONS,
+                Set.of(SOCKET_OPTION, Main.REPORT_OPTION), USAGE, args);
+        final List<Path> files = new ArrayList<>();
+        for (String file : options.getOrDefault(FILES_OPTION, "").split(Main.LIST_SEPARATOR)) {
+            if (!file.isBlank()) {
+                files.add(Path.of(file.strip()));
+            }
+        }
+        final List<Path> changed = send(Path.of(options.get(SOCKET_OPTION)),
+                options.get(Main.REPORT_OPTION), files);
+        changed.forEach(filePath -> LOG.info(() -> "Fixed " + filePath));
+        LOG.info(() -> "Fixed Checkstyle violations in " + changed.size() + " file(s)");
+    }
+
+    /**
+     * Asks the daemon listening on the given socket to fix files.
+     *
+     * @param socketPath the path of the socket of the daemon
+     * @param reportPaths comma separated report paths or glob patterns
+     * @param files the files to fix, or an empty list to fix every reported file
+     * @return the changed files
+     * @throws IOException if the daemon cannot be reached
+     * @throws IllegalStateException if the daemon fails to fix the files
+     */
+    public static List<Path> send(Path socketPath, String reportPaths, List<Path> files)
+            throws IOException {
+        final List<Path> result = new ArrayList<>();
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+            writer.write(reportPaths + FixDaemon.LINE_SEPARATOR);
+            for (Path file : files) {
+                writer.write(file.toAbsolutePath().normalize() + FixDaemon.LINE_SEPARATOR);
+            }
+            writer.flush();
+            channel.shutdownOutput();
+
+            final BufferedReader reader = new BufferedReader(
+                    Channels.newReader(channel, StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            while (line != null && !line.startsWith(FixDaemon.OK)
+                    && !line.startsWith(FixDaemon.ERROR)) {
+                result.add(Path.of(line));
+                line = reader.readLine();
+            }
+            if (line == null || line.startsWith(FixDaemon.ERROR)) {
+                throw new IllegalStateException("Fix daemon failed: " + line);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,411 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import org.checkstyle.autofix.parser.ChangeScope;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.ConfigurationLoader;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.parser.ViolationReports;
+import org.checkstyle.autofix.patch.PatchEngine;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+
+/**
+ * Long-lived process that keeps the Checkstyle configuration, the violation index and
+ * the syntax trees of recently fixed files in memory between fix requests, so a request
+ * pays neither JVM startup nor reparsing of unchanged files.
+ *
+ * <p>The daemon listens on a Unix domain socket and serves one request at a time, fixing
+ * the files of a request in parallel like {@link Main}. A request is the report paths on
+ * its first line followed by the files to fix, one per line, and ends when the client shuts
+ * down its output; without files, every reported file is fixed. Relative paths are resolved
+ * against the working directory of the daemon. The response lists the changed files, one
+ * per line, followed by {@code OK <count>} or {@code ERROR <message>}. {@link FixClient}
+ * implements the client side.
+ *
+ * <p>The configuration is reloaded when the checksum of one of its files changes, and the
+ * index when one of its reports changes. Checksums are computed again only for files whose
+ * size or modification time changed. Every request fixes a fresh
+ * {@link ViolationIndex#copy() copy} of the index. Trees are reused while the CRC32C
+ * checksum of their file is unchanged, and the least recently used are dropped beyond
+ * 1024 files.
+ *
+ * <p>Usage: {@code --socket <path> --config <path> [--properties <path>] [--patch <checks>]}.
+ */
+public final class FixDaemon implements Closeable {
+
+    static final String OK = "OK";
+
+    static final String ERROR = "ERROR";
+
+    static final String LINE_SEPARATOR = "\n";
+
+    private static final Logger LOG = Logger.getLogger(FixDaemon.class.getName());
+
+    private static final String SOCKET_OPTION = "--socket";
+
+    private static final String STATUS_SEPARATOR = " ";
+
+    private static final String STAMP_SEPARATOR = "|";
+
+    private static final String POSIX_VIEW = "posix";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY =
+            PosixFilePermissions.fromString("rw-------");
+
+    private static final int MAX_TREES = 1024;
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final Set<String> OPTIONS = Set.of(SOCKET_OPTION, Main.CONFIG_OPTION,
+            Main.PROPERTIES_OPTION, Main.PATCH_OPTION);
+
+    private static final String USAGE = "Usage: " + SOCKET_OPTION + " <path> "
+            + Main.CONFIG_OPTION + " <path> [" + Main.PROPERTIES_OPTION + " <path>] ["
+            + Main.PATCH_OPTION + " <checks>]";
+
+    private final Path socketPath;
+
+    private final String configurationPath;
+
+    private final String propertiesPath;
+
+    private final Set<CheckstyleCheck> patchChecks;
+
+    private final Map<Path, CachedTree> trees =
+            new LinkedHashMap<>(MAX_TREES, LOAD_FACTOR, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Path, CachedTree> eldest) {
+                    return size() > MAX_TREES;
+                }
+            };
+
+    private final FileStamps fileStamps = new FileStamps();
+
+    private Map<CheckstyleCheck, CheckConfiguration> configuration;
+
+    private String configurationStamp;
+
+    private ViolationIndex violations;
+
+    private String violationsStamp;
+
+    private volatile ServerSocketChannel server;
+
+    /**
+     * Creates a daemon.
+     *
+     * @param socketPath the path of the Unix domain socket to listen on
+     * @param configurationPath the path of the Checkstyle configuration
+     * @param propertiesPath the path of the Checkstyle properties, or {@code null}
+     * @param patchChecks the checks fixed with text patches
+     */
+    public FixDaemon(Path socketPath, String configurationPath, String propertiesPath,
+                     Set<CheckstyleCheck> patchChecks) {
+        this.socketPath = socketPath;
+        this.configurationPath = configurationPath;
+        this.propertiesPath = propertiesPath;
+        this.patchChecks = Set.copyOf(patchChecks);
+    }
+
+    /**
+     * Serves fix requests until the process is stopped.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the socket cannot be opened
+     */
+    public static void main(String... args) throws IOException {
+        final Map<String, String> options = Main.parseOptions(OPTIONS,
+                Set.of(SOCKET_OPTION, Main.CONFIG_OPTION), USAGE, args);
+        new FixDaemon(Path.of(options.get(SOCKET_OPTION)), options.get(Main.CONFIG_OPTION),
+                options.get(Main.PROPERTIES_OPTION), Main.parseChecks(options.getOrDefault(
+                        Main.PATCH_OPTION, Main.DEFAULT_PATCH_CHECKS))).serve();
+    }
+
+    /**
+     * Listens on the socket and serves requests until the daemon is closed. A stale socket
+     * file left by a previous daemon is replaced, any other file at the socket path is left
+     * alone. The socket is accessible to its owner only.
+     *
+     * @throws IOException if the socket cannot be opened, or if a file other than a socket
+     *     exists at the socket path
+     */
+    public void serve() throws IOException {
+        deleteStaleSocket();
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server = channel;
+            channel.bind(UnixDomainSocketAddress.of(socketPath));
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains(POSIX_VIEW)) {
+                Files.setPosixFilePermissions(socketPath, OWNER_ONLY);
+            }
+            LOG.info(() -> "Fix daemon listening on " + socketPath);
+            while (channel.isOpen()) {
+                accept(channel);
+            }
+        }
+        finally {
+            deleteStaleSocket();
+        }
+    }
+
+    /**
+     * Stops serving. A request in progress is completed first.
+     *
+     * @throws IOException if the socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        final ServerSocketChannel channel = server;
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Fixes the violations of the given reports.
+     *
+     * @param reportPaths comma separated report paths or glob patterns
+     * @param files the files to fix, or an empty list to fix every reported file
+     * @return the changed files
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalArgumentException if the configuration or a report is invalid
+     */
+    public synchronized List<Path> fix(String reportPaths, List<Path> files)
+            throws IOException {
+        final Map<CheckstyleCheck, CheckConfiguration> config = getConfiguration();
+        ViolationIndex index = getViolations(reportPaths).copy();
+        if (!files.isEmpty()) {
+            index = ChangeScope.ofFiles(files).filter(index);
+        }
+        final Set<Path> changed = Main.patch(index, config.keySet(),
+                new PatchEngine(config, patchChecks));
+        trees.keySet().removeAll(changed);
+        final List<Recipe> recipes = CheckstyleRecipeRegistry.getRecipes(index, config);
+        if (!recipes.isEmpty()) {
+            final Path baseDir = Path.of("").toAbsolutePath();
+            final ExecutionContext executionContext = new InMemoryExecutionContext();
+            final List<SourceFile> sourceFiles = getTrees(baseDir,
+                    Main.findFilesToParse(index, config.keySet()), executionContext);
+            List<SourceFile> fixed = sourceFiles;
+            for (Recipe recipe : recipes) {
+                fixed = new ParallelFixRunner(recipe).run(fixed, executionContext);
+            }
+            for (int fileIndex = 0; fileIndex < fixed.size(); fileIndex++) {
+                if (fixed.get(fileIndex) != sourceFiles.get(fileIndex)) {
+                    final Path filePath = Main.write(baseDir, fixed.get(fileIndex));
+                    changed.add(filePath);
+                    trees.put(filePath, new CachedTree(fixed.get(fileIndex), checksum(filePath)));
+                }
+            }
+        }
+        return new ArrayList<>(changed);
+    }
+
+    private void accept(ServerSocketChannel channel) {
+        try (SocketChannel connection = channel.accept()) {
+            handle(connection);
+        }
+        catch (ClosedChannelException exception) {
+            LOG.log(Level.FINE, "Fix daemon stopped", exception);
+        }
+        catch (IOException exception) {
+            LOG.log(Level.WARNING, "Failed to serve fix request", exception);
+        }
+    }
+
+    private void handle(SocketChannel connection) throws IOException {
+        final BufferedReader reader = new BufferedReader(
+                Channels.newReader(connection, StandardCharsets.UTF_8));
+        final List<String> request = new ArrayList<>();
+        String line = reader.readLine();
+        while (line != null) {
+            request.add(line);
+            line = reader.readLine();
+        }
+
+        final Writer writer = Channels.newWriter(connection, StandardCharsets.UTF_8);
+        String status = ERROR + STATUS_SEPARATOR + "Empty fix request";
+        if (!request.isEmpty()) {
+            try {
+                final List<Path> files = new ArrayList<>();
+                for (String file : request.subList(1, request.size())) {
+                    if (!file.isBlank()) {
+                        files.add(Path.of(file.strip()));
+                    }
+                }
+                final List<Path> changed = fix(request.get(0), files);
+                for (Path filePath : changed) {
+                    writer.write(filePath + LINE_SEPARATOR);
+                }
+                status = OK + STATUS_SEPARATOR + changed.size();
+            }
+            catch (IOException | RuntimeException exception) {
+                LOG.log(Level.WARNING, "Fix request failed", exception);
+                status = ERROR + STATUS_SEPARATOR
+                        + String.valueOf(exception.getMessage()).replaceAll("\\R", " ");
+            }
+        }
+        writer.write(status + LINE_SEPARATOR);
+        writer.flush();
+    }
+
+    /**
+     * Deletes the socket file at the socket path, if any.
+     *
+     * @throws FileAlreadyExistsException if a file other than a socket exists at the path
+     * @throws IOException if the socket file cannot be deleted
+     */
+    private void deleteStaleSocket() throws IOException {
+        if (Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+            final BasicFileAttributes attributes = Files.readAttributes(socketPath,
+                    BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            if (!attributes.isOther()) {
+                throw new FileAlreadyExistsException(socketPath.toString(), null,
+                        "Not a socket, refusing to replace it");
+            }
+            Files.delete(socketPath);
+        }
+    }
+
+    private Map<CheckstyleCheck, CheckConfiguration> getConfiguration() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        files.add(Path.of(configurationPath));
+        if (propertiesPath != null) {
+            files.add(Path.of(propertiesPath));
+        }
+        final String stamp = fileStamps.of(files);
+        if (!stamp.equals(configurationStamp)) {
+            configuration = ConfigurationLoader.loadConfiguration(configurationPath,
+                    propertiesPath);
+            configurationStamp = stamp;
+        }
+        return configuration;
+    }
+
+    private ViolationIndex getViolations(String reportPaths) throws IOException {
+        final String stamp = reportPaths + STAMP_SEPARATOR
+                + fileStamps.of(ViolationReports.resolve(reportPaths));
+        if (!stamp.equals(violationsStamp)) {
+            violations = ViolationReports.load(reportPaths);
+            violationsStamp = stamp;
+        }
+        return violations;
+    }
+
+    /**
+     * Returns the trees of the given files, parsing only files without a tree whose
+     * checksum matches.
+     *
+     * @param baseDir the directory source paths are relative to
+     * @param filePaths the files
+     * @param executionContext the execution context of the parser
+     * @return the trees in the order of the files
+     * @throws IOException if a file cannot be read
+     */
+    private List<SourceFile> getTrees(Path baseDir, List<Path> filePaths,
+                                      ExecutionContext executionContext) throws IOException {
+        final Map<Path, SourceFile> result = new LinkedHashMap<>();
+        final Map<Path, Long> checksums = new LinkedHashMap<>();
+        for (Path filePath : filePaths) {
+            final Path normalized = baseDir.resolve(filePath).normalize();
+            final long checksum = checksum(normalized);
+            final CachedTree cached = trees.get(normalized);
+            if (cached != null && cached.checksum == checksum) {
+                result.put(normalized, cached.tree);
+            }
+            else {
+                result.put(normalized, null);
+                checksums.put(normalized, checksum);
+            }
+        }
+        if (!checksums.isEmpty()) {
+            JavaParser.fromJavaVersion()
+                    .logCompilationWarningsAndErrors(false)
+                    .build()
+                    .parse(checksums.keySet(), baseDir, executionContext)
+                    .forEach(sourceFile -> {
+                        final Path filePath =
+                                baseDir.resolve(sourceFile.getSourcePath()).normalize();
+                        final Long checksum = checksums.get(filePath);
+                        if (checksum != null) {
+                            result.put(filePath, sourceFile);
+                            trees.put(filePath, new CachedTree(sourceFile, checksum));
+                        }
+                    });
+        }
+        final List<SourceFile> parsed = new ArrayList<>(result.values());
+        parsed.removeIf(Objects::isNull);
+        return parsed;
+    }
+
+    private static long checksum(Path filePath) throws IOException {
+        final CRC32C checksum = new CRC32C();
+        checksum.update(Files.readAllBytes(filePath));
+        return checksum.getValue();
+    }
+
+    /**
+     * A parsed tree together with the checksum of the file it was parsed from.
+     */
+    private static final class CachedTree {
+
+        private final SourceFile tree;
+
+        private final long checksum;
+
+        private CachedTree(SourceFile tree, long checksum) {
+            this.tree = tree;
+            this.checksum = checksum;
+        }
+    }
+}
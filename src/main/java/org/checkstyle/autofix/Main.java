@@ -0,0 +1,313 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.checkstyle.autofix.parser.ChangeScope;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.ConfigurationCache;
+import org.checkstyle.autofix.parser.ConfigurationLoader;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.parser.ViolationReports;
+import org.checkstyle.autofix.patch.PatchEngine;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+
+/**
+ * Command line driver that fixes the violations of a Checkstyle report without a build tool.
+ *
+ * <p>Unlike a build plugin run, which parses the whole project before the recipe reads its
+ * report, only the source files with violations of configured checks are parsed. Files whose
+ * violations all belong to checks opted in to text patches are fixed by the
+ * {@link PatchEngine} and not parsed at all. The remaining files are parsed without
+ * a classpath because the fixes do not need type attribution, fixed in parallel and written
+ * back when they change.
+ *
+ * <p>Usage: {@code --report <paths> --config <path> [--properties <path>] [--patch <checks>]
+ * [--changes <scope>] [--cache <directory>]}, where the report option accepts the same comma
+ * separated list of paths and globs as {@link CheckstyleAutoFix}, the patch option is a comma
+ * separated list of check names, {@code UpperEll,HexLiteralCase} by default, the changes
+ * option restricts fixing to the lines of a {@link ChangeScope} and the cache option names
+ * a directory where the result of fixing each file is kept across runs by a {@link FixCache}
+ * and the mapped configuration by a {@link ConfigurationCache}.
+ */
+public final class Main {
+
+    private static final Logger LOG = Logger.getLogger(Main.class.getName());
+
+    static final String REPORT_OPTION = "--report";
+
+    static final String CONFIG_OPTION = "--config";
+
+    static final String PROPERTIES_OPTION = "--properties";
+
+    static final String PATCH_OPTION = "--patch";
+
+    private static final String CHANGES_OPTION = "--changes";
+
+    private static final String CACHE_OPTION = "--cache";
+
+    private static final long CACHE_SIZE = 256L * 1024 * 1024;
+
+    static final String DEFAULT_PATCH_CHECKS = "UpperEll,HexLiteralCase";
+
+    static final String LIST_SEPARATOR = ",";
+
+    private static final Set<String> OPTIONS = Set.of(REPORT_OPTION, CONFIG_OPTION,
+            PROPERTIES_OPTION, PATCH_OPTION, CHANGES_OPTION, CACHE_OPTION);
+
+    private static final String USAGE = "Usage: " + REPORT_OPTION + " <paths> "
+            + CONFIG_OPTION + " <path> [" + PROPERTIES_OPTION + " <path>] ["
+            + PATCH_OPTION + " <checks>] [" + CHANGES_OPTION + " <scope>] ["
+            + CACHE_OPTION + " <directory>]";
+
+    private Main() {
+        // utility class
+    }
+
+    /**
+     * Fixes the violations of the given report and logs the number of changed files.
+     *
+     * @param args the command line arguments
+     * @throws IOException if a fixed file cannot be written
+     */
+    public static void main(String... args) throws IOException {
+        final int changed = run(args);
+        LOG.info(() -> "Fixed Checkstyle violations in " + changed + " file(s)");
+    }
+
+    /**
+     * Fixes the violations of the given report.
+     *
+     * @param args the command line arguments
+     * @return the number of files that were changed
+     * @throws IOException if a fixed file cannot be written
+     * @throws IllegalArgumentException if the arguments are invalid
+     */
+    public static int run(String... args) throws IOException {
+        final Map<String, String> options = parseOptions(OPTIONS,
+                Set.of(REPORT_OPTION, CONFIG_OPTION), USAGE, args);
+        ViolationIndex violations = ViolationReports.load(options.get(REPORT_OPTION));
+        if (options.containsKey(CHANGES_OPTION)) {
+            violations = ChangeScope.load(options.get(CHANGES_OPTION)).filter(violations);
+        }
+        final Set<CheckstyleCheck> checks = CheckstyleRecipeRegistry.getFixableChecks(violations);
+        int result = 0;
+        if (!checks.isEmpty()) {
+            result = fix(options, violations, loadConfiguration(options, checks));
+        }
+        return result;
+    }
+
+    /**
+     * Fixes the reported violations of configured checks.
+     *
+     * @param options the command line options
+     * @param violations the index of Checkstyle violations
+     * @param configuration the configuration of the reported checks
+     * @return the number of files that were changed
+     * @throws IOException if a file cannot be read or written
+     */
+    private static int fix(Map<String, String> options, ViolationIndex violations,
+                           Map<CheckstyleCheck, CheckConfiguration> configuration)
+            throws IOException {
+        final List<Recipe> recipes = CheckstyleRecipeRegistry.getRecipes(violations,
+                configuration);
+
+        final PatchEngine patchEngine = new PatchEngine(configuration,
+                parseChecks(options.getOrDefault(PATCH_OPTION, DEFAULT_PATCH_CHECKS)));
+        FixCache cache = null;
+        final Set<Path> changed = new LinkedHashSet<>();
+        if (options.containsKey(CACHE_OPTION)) {
+            cache = new FixCache(Path.of(options.get(CACHE_OPTION)), CACHE_SIZE, configuration);
+            changed.addAll(cache.restore(findFilesToFix(violations, configuration.keySet()),
+                    configuration.keySet()));
+        }
+        changed.addAll(patch(violations, configuration.keySet(), patchEngine));
+        if (!recipes.isEmpty()) {
+            final Path baseDir = Path.of("").toAbsolutePath();
+            final ExecutionContext executionContext = new InMemoryExecutionContext();
+            final List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+                    .logCompilationWarningsAndErrors(false)
+                    .build()
+                    .parse(findFilesToParse(violations, configuration.keySet()), baseDir,
+                            executionContext)
+                    .toList();
+            List<SourceFile> fixed = sourceFiles;
+            for (Recipe recipe : recipes) {
+                fixed = new ParallelFixRunner(recipe).run(fixed, executionContext);
+            }
+            for (int index = 0; index < fixed.size(); index++) {
+                if (fixed.get(index) != sourceFiles.get(index)) {
+                    changed.add(write(baseDir, fixed.get(index)));
+                }
+            }
+        }
+        if (cache != null) {
+            cache.store(changed);
+            cache.evict();
+        }
+        return changed.size();
+    }
+
+    /**
+     * Loads the configuration, through a {@link ConfigurationCache} in the cache directory
+     * when one is given and otherwise mapping only the modules of the reported checks.
+     *
+     * @param options the command line options
+     * @param checks the reported checks that can be fixed
+     * @return the mapped configuration
+     */
+    private static Map<CheckstyleCheck, CheckConfiguration> loadConfiguration(
+            Map<String, String> options, Set<CheckstyleCheck> checks) {
+        final Map<CheckstyleCheck, CheckConfiguration> result;
+        if (options.containsKey(CACHE_OPTION)) {
+            result = ConfigurationCache.load(Path.of(options.get(CACHE_OPTION)),
+                    ConfigurationCache.DEFAULT_TIME_TO_LIVE, options.get(CONFIG_OPTION),
+                    options.get(PROPERTIES_OPTION));
+        }
+        else {
+            result = ConfigurationLoader.loadConfiguration(options.get(CONFIG_OPTION),
+                    options.get(PROPERTIES_OPTION), checks);
+        }
+        return result;
+    }
+
+    /**
+     * Applies text patches to the reported files that need no syntax tree.
+     *
+     * @param violations the index of Checkstyle violations
+     * @param checks the configured checks
+     * @param patchEngine the patch engine
+     * @return the changed files
+     * @throws IOException if a file cannot be read or written
+     */
+    static Set<Path> patch(ViolationIndex violations, Set<CheckstyleCheck> checks,
+                           PatchEngine patchEngine) throws IOException {
+        final Set<Path> result = new LinkedHashSet<>();
+        for (FileViolations fileViolations : violations.getFiles()) {
+            if (patchEngine.apply(fileViolations, checks)) {
+                result.add(fileViolations.getFilePath().toAbsolutePath().normalize());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the existing files of the report that have violations of configured checks.
+     *
+     * @param violations the index of Checkstyle violations
+     * @param checks the configured checks
+     * @return the files to fix
+     */
+    private static List<FileViolations> findFilesToFix(ViolationIndex violations,
+                                                       Set<CheckstyleCheck> checks) {
+        final List<FileViolations> result = new ArrayList<>();
+        for (FileViolations fileViolations : violations.getFiles()) {
+            if (hasViolations(fileViolations, checks)
+                    && Files.isRegularFile(fileViolations.getFilePath())) {
+                result.add(fileViolations);
+            }
+        }
+        return result;
+    }
+
+    static List<Path> findFilesToParse(ViolationIndex violations,
+                                       Set<CheckstyleCheck> checks) {
+        final List<Path> result = new ArrayList<>();
+        for (FileViolations fileViolations : findFilesToFix(violations, checks)) {
+            result.add(fileViolations.getFilePath());
+        }
+        return result;
+    }
+
+    private static boolean hasViolations(FileViolations fileViolations,
+                                         Set<CheckstyleCheck> checks) {
+        boolean result = false;
+        for (CheckstyleCheck check : checks) {
+            result |= fileViolations.hasViolations(check);
+        }
+        return result;
+    }
+
+    static Path write(Path baseDir, SourceFile sourceFile) throws IOException {
+        Charset charset = StandardCharsets.UTF_8;
+        if (sourceFile.getCharset() != null) {
+            charset = sourceFile.getCharset();
+        }
+        final Path filePath = baseDir.resolve(sourceFile.getSourcePath()).normalize();
+        Files.writeString(filePath, sourceFile.printAll(), charset);
+        return filePath;
+    }
+
+    static Set<CheckstyleCheck> parseChecks(String checkNames) {
+        final Set<CheckstyleCheck> result = EnumSet.noneOf(CheckstyleCheck.class);
+        for (String checkName : checkNames.split(LIST_SEPARATOR)) {
+            final String trimmed = checkName.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(CheckstyleCheck.fromSource(trimmed).orElseThrow(() -> {
+                    return new IllegalArgumentException("Unsupported check: " + trimmed);
+                }));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses {@code --name value} pairs.
+     *
+     * @param allowed the allowed option names
+     * @param required the option names that must be given
+     * @param usage the usage message of invalid arguments
+     * @param args the command line arguments
+     * @return the option values by name
+     * @throws IllegalArgumentException if an option is unknown, has no value or is missing
+     */
+    static Map<String, String> parseOptions(Set<String> allowed, Set<String> required,
+                                            String usage, String... args) {
+        final Map<String, String> options = new LinkedHashMap<>();
+        for (int index = 0; index < args.length; index += 2) {
+            if (!allowed.contains(args[index]) || index + 1 == args.length) {
+                throw new IllegalArgumentException("Invalid argument: " + args[index]
+                        + System.lineSeparator() + usage);
+            }
+            options.put(args[index], args[index + 1]);
+        }
+        if (!options.keySet().containsAll(required)) {
+            throw new IllegalArgumentException(usage);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+
+/**
+ * Applies a recipe to source files in parallel, one task per file on a {@link ForkJoinPool}.
+ *
+ * <p>The recipe tree is expanded once and every task asks each recipe for a fresh visitor,
+ * so visitors are confined to the thread fixing their file while the violation index is
+ * shared. The recipes are applied in a single cycle, which is enough for the Checkstyle
+ * fixes because every violation is fixed at most once.
+ */
+public final class ParallelFixRunner {
+
+    private final List<Recipe> recipes;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a runner that uses the common pool.
+     *
+     * @param recipe the recipe to apply
+     */
+    public ParallelFixRunner(Recipe recipe) {
+        this(recipe, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a runner that uses the given pool.
+     *
+     * @param recipe the recipe to apply
+     * @param pool the pool running one task per source file
+     */
+    public ParallelFixRunner(Recipe recipe, ForkJoinPool pool) {
+        final List<Recipe> expanded = new ArrayList<>();
+        expand(recipe, expanded);
+        this.recipes = List.copyOf(expanded);
+        this.pool = pool;
+    }
+
+    /**
+     * Applies the recipe to every source file.
+     *
+     * @param sourceFiles the source files to fix
+     * @param executionContext the execution context shared by all tasks
+     * @return the source files after the fixes, in the order of the given files
+     * @throws IllegalStateException if a file cannot be fixed or the run is interrupted
+     */
+    public List<SourceFile> run(List<? extends SourceFile> sourceFiles,
+                                ExecutionContext executionContext) {
+        final List<Callable<SourceFile>> tasks = new ArrayList<>(sourceFiles.size());
+        for (SourceFile sourceFile : sourceFiles) {
+            tasks.add(() -> fix(sourceFile, executionContext));
+        }
+        final List<SourceFile> result = new ArrayList<>(sourceFiles.size());
+        final List<Future<SourceFile>> futures = pool.invokeAll(tasks);
+        for (int index = 0; index < futures.size(); index++) {
+            result.add(await(futures.get(index), sourceFiles.get(index)));
+        }
+        return result;
+    }
+
+    private SourceFile fix(SourceFile sourceFile, ExecutionContext executionContext) {
+        SourceFile result = sourceFile;
+        for (Recipe recipe : recipes) {
+            final TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor();
+            if (visitor.isAcceptable(result, executionContext)) {
+                final Tree fixed = visitor.visit(result, executionContext);
+                if (fixed instanceof SourceFile fixedFile) {
+                    result = fixedFile;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static SourceFile await(Future<SourceFile> future, SourceFile sourceFile) {
+        try {
+            return future.get();
+        }
+        catch (ExecutionException exception) {
+            throw new IllegalStateException("Failed to fix " + sourceFile.getSourcePath(),
+                    exception.getCause());
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fixing "
+                    + sourceFile.getSourcePath(), exception);
+        }
+    }
+
+    private static void expand(Recipe recipe, List<Recipe> expanded) {
+        expanded.add(recipe);
+        for (Recipe child : recipe.getRecipeList()) {
+            expand(child, expanded);
+        }
+    }
+}
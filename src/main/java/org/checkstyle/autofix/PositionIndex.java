@@ -0,0 +1,175 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.openrewrite.Cursor;
+import org.openrewrite.PrintOutputCapture;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.Comment;
+import org.openrewrite.java.tree.J;
+
+/**
+ * Line and column positions of every {@link J} node of a compilation unit.
+ *
+ * <p>The index is built lazily on the first query by printing the compilation unit once and
+ * recording where each node starts. Positions are 1-based and point to the first character
+ * after the node prefix, which is how Checkstyle reports violations.
+ */
+public final class PositionIndex {
+
+    private static final int COLUMN_BITS = 32;
+
+    private static final long COLUMN_MASK = 0xFFFFFFFFL;
+
+    private final J.CompilationUnit compilationUnit;
+
+    private Map<UUID, Long> positions;
+
+    /**
+     * Creates an index for the given compilation unit.
+     *
+     * @param compilationUnit the compilation unit whose nodes are indexed
+     */
+    public PositionIndex(J.CompilationUnit compilationUnit) {
+        this.compilationUnit = compilationUnit;
+    }
+
+    public int getLine(J element) {
+        return (int) (getPosition(element) >>> COLUMN_BITS);
+    }
+
+    public int getColumn(J element) {
+        return (int) (getPosition(element) & COLUMN_MASK);
+    }
+
+    private long getPosition(J element) {
+        if (positions == null) {
+            positions = computePositions();
+        }
+        final Long position = positions.get(element.getId());
+        if (position == null) {
+            throw new IllegalStateException("Target element: " + element
+                    + ", not found in the syntax tree.");
+        }
+        return position;
+    }
+
+    private Map<UUID, Long> computePositions() {
+        final Cursor rootCursor = new Cursor(null, Cursor.ROOT_VALUE);
+        final TreeVisitor<?, PrintOutputCapture<TreeVisitor<?, ?>>> printer =
+                compilationUnit.printer(new Cursor(rootCursor, compilationUnit));
+        final PositionCapture capture = new PositionCapture(printer);
+        printer.visit(compilationUnit, capture, rootCursor);
+        return capture.getPositions();
+    }
+
+    /**
+     * Print output capture that tracks the current line and column and records the position
+     * of a node on the first text appended while that node is being printed.
+     */
+    private static final class PositionCapture extends PrintOutputCapture<TreeVisitor<?, ?>> {
+
+        private final Map<UUID, Long> positions = new HashMap<>();
+
+        private Object lastRecorded;
+
+        private int line = 1;
+
+        private int column = 1;
+
+        private PositionCapture(TreeVisitor<?, PrintOutputCapture<TreeVisitor<?, ?>>> printer) {
+            super(printer);
+        }
+
+        @Override
+        public PrintOutputCapture<TreeVisitor<?, ?>> append(String text) {
+            recordCurrentNode();
+            if (text != null) {
+                advance(text);
+            }
+            return super.append(text);
+        }
+
+        @Override
+        public PrintOutputCapture<TreeVisitor<?, ?>> append(char character) {
+            recordCurrentNode();
+            advance(character);
+            return super.append(character);
+        }
+
+        private Map<UUID, Long> getPositions() {
+            return positions;
+        }
+
+        private void recordCurrentNode() {
+            final Object value = getContext().getCursor().getValue();
+            if (value != lastRecorded && value instanceof J node
+                    && !positions.containsKey(node.getId())) {
+                lastRecorded = node;
+                positions.put(node.getId(), computeNodePosition(node));
+            }
+        }
+
+        private long computeNodePosition(J node) {
+            final int savedLine = line;
+            final int savedColumn = column;
+
+            advance(node.getPrefix().getWhitespace());
+            for (Comment comment : node.getPrefix().getComments()) {
+                advance(comment.printComment(getContext().getCursor()));
+                advance(comment.getSuffix());
+            }
+            int nodeColumn = column;
+            if (isSignedNumber(node)) {
+                nodeColumn++;
+            }
+            final long result = (long) line << COLUMN_BITS | nodeColumn;
+
+            line = savedLine;
+            column = savedColumn;
+            return result;
+        }
+
+        private static boolean isSignedNumber(J node) {
+            return node instanceof J.Literal literal
+                    && literal.getValue() instanceof Number
+                    && literal.getValueSource() != null
+                    && literal.getValueSource().matches("^[+-].*");
+        }
+
+        private void advance(String text) {
+            for (int index = 0; index < text.length(); index++) {
+                advance(text.charAt(index));
+            }
+        }
+
+        private void advance(char character) {
+            if (character == '\n') {
+                line++;
+                column = 1;
+            }
+            else {
+                column++;
+            }
+        }
+    }
+}
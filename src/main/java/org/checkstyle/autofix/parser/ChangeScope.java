@@ -0,0 +1,366 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Files and line ranges touched by a change, used to restrict fixing to violations that
+ * a change introduced or touched.
+ *
+ * <p>A scope is read from a unified diff file, from a file listing changed paths one per
+ * line, or computed with {@code git diff} when given as {@code git:<ref>}. Files of
+ * a changed-file list are in scope on every line; files of a diff only on the lines that
+ * its hunks add or modify. Relative paths are resolved against the working directory.
+ *
+ * <p>{@code git diff} is run with explicit {@code a/} and {@code b/} prefixes and without
+ * path quoting, so that the user's prefix and quoting configuration cannot change the
+ * paths. Paths that git still quotes, such as those with a tab or a quote, are unquoted.
+ */
+public final class ChangeScope {
+
+    private static final String GIT_PREFIX = "git:";
+
+    private static final String NEW_FILE_PREFIX = "+++ ";
+
+    private static final String HUNK_PREFIX = "@@ ";
+
+    private static final String ADDED_PREFIX = "+";
+
+    private static final String REMOVED_PREFIX = "-";
+
+    private static final String NO_NEWLINE_PREFIX = "\\";
+
+    private static final String QUOTE = "\"";
+
+    private static final String GIT_NEW_PREFIX = "b/";
+
+    private static final String DEV_NULL = "/dev/null";
+
+    private static final Pattern HUNK_HEADER =
+            Pattern.compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@");
+
+    /** Escapes of the control characters 7 to 13 in C-style quoted paths, in order. */
+    private static final String CONTROL_ESCAPES = "abtnvfr";
+
+    private static final int FIRST_CONTROL = 7;
+
+    private static final int OCTAL_LENGTH = 3;
+
+    private static final int OCTAL_RADIX = 8;
+
+    private final Map<Path, LineRanges> files;
+
+    private ChangeScope(Map<Path, LineRanges> files) {
+        this.files = files;
+    }
+
+    /**
+     * Loads the scope described by the given specification.
+     *
+     * @param specification {@code git:<ref>} or the path of a diff or changed-file list
+     * @return the scope
+     * @throws IllegalArgumentException if the scope cannot be read
+     */
+    public static ChangeScope load(String specification) {
+        final List<String> lines;
+        if (specification.startsWith(GIT_PREFIX)) {
+            lines = runGitDiff(specification.substring(GIT_PREFIX.length()));
+        }
+        else {
+            try {
+                lines = Files.readAllLines(Path.of(specification));
+            }
+            catch (IOException exception) {
+                throw new IllegalArgumentException("Failed to read change scope: "
+                        + specification, exception);
+            }
+        }
+        return parse(lines);
+    }
+
+    /**
+     * Parses a unified diff, or a changed-file list if the lines contain no hunk.
+     *
+     * @param lines the lines of the diff or list
+     * @return the scope
+     */
+    static ChangeScope parse(List<String> lines) {
+        final Map<Path, LineRanges> files = new LinkedHashMap<>();
+        if (lines.stream().anyMatch(line -> line.startsWith(HUNK_PREFIX))) {
+            parseDiff(lines, files);
+        }
+        else {
+            for (String line : lines) {
+                if (!line.isBlank()) {
+                    files.put(ViolationIndex.normalize(Path.of(line.strip())), LineRanges.ALL);
+                }
+            }
+        }
+        return new ChangeScope(files);
+    }
+
+    /**
+     * Adds the lines that the hunks of a unified diff add or modify. The old and new line
+     * counts of every hunk are tracked, so that a hunk line such as an added {@code ++ x},
+     * which reads {@code +++ x}, is never taken for a file header.
+     *
+     * @param lines the lines of the diff
+     * @param files the scope to add the files to
+     */
+    private static void parseDiff(List<String> lines, Map<Path, LineRanges> files) {
+        LineRanges current = null;
+        int oldRemaining = 0;
+        int newRemaining = 0;
+        for (String line : lines) {
+            if (oldRemaining > 0 || newRemaining > 0) {
+                if (line.startsWith(REMOVED_PREFIX)) {
+                    oldRemaining--;
+                }
+                else if (line.startsWith(ADDED_PREFIX)) {
+                    newRemaining--;
+                }
+                else if (!line.startsWith(NO_NEWLINE_PREFIX)) {
+                    oldRemaining--;
+                    newRemaining--;
+                }
+            }
+            else if (line.startsWith(NEW_FILE_PREFIX)) {
+                current = null;
+                final String path = getDiffPath(line);
+                if (!DEV_NULL.equals(path)) {
+                    current = files.computeIfAbsent(ViolationIndex.normalize(Path.of(path)),
+                            key -> new LineRanges());
+                }
+            }
+            else {
+                final Matcher hunk = HUNK_HEADER.matcher(line);
+                if (hunk.find()) {
+                    oldRemaining = parseCount(hunk.group(1));
+                    newRemaining = parseCount(hunk.group(3));
+                    if (current != null) {
+                        current.add(Integer.parseInt(hunk.group(2)), newRemaining);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int parseCount(String count) {
+        int result = 1;
+        if (count != null) {
+            result = Integer.parseInt(count);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a scope of whole files.
+     *
+     * @param filePaths the files
+     * @return the scope
+     */
+    public static ChangeScope ofFiles(Collection<Path> filePaths) {
+        final Map<Path, LineRanges> files = new LinkedHashMap<>();
+        for (Path filePath : filePaths) {
+            files.put(ViolationIndex.normalize(filePath), LineRanges.ALL);
+        }
+        return new ChangeScope(files);
+    }
+
+    public Set<Path> getFiles() {
+        return files.keySet();
+    }
+
+    /**
+     * Checks whether a file is touched by the change.
+     *
+     * @param filePath the file
+     * @return {@code true} if at least one line of the file is in scope
+     */
+    public boolean containsFile(Path filePath) {
+        return files.containsKey(ViolationIndex.normalize(filePath));
+    }
+
+    /**
+     * Returns an index with only the violations on lines touched by the change. Only the
+     * files of the scope are looked up, so violations of other files are never loaded.
+     *
+     * @param violations the index to filter
+     * @return the filtered index
+     */
+    public ViolationIndex filter(ViolationIndex violations) {
+        final ViolationIndex.Builder result = new ViolationIndex.Builder();
+        for (Map.Entry<Path, LineRanges> file : files.entrySet()) {
+            final FileViolations fileViolations = violations.getFileViolations(file.getKey());
+            for (int row = 0; row < fileViolations.size(); row++) {
+                if (file.getValue().contains(fileViolations.getLine(row))) {
+                    result.add(fileViolations.getFilePath(), fileViolations.getLine(row),
+                            fileViolations.getColumn(row), fileViolations.getSeverity(row),
+                            fileViolations.getCheck(row), fileViolations.getMessage(row));
+                }
+            }
+        }
+        return result.build();
+    }
+
+    private static String getDiffPath(String line) {
+        String path = line.substring(NEW_FILE_PREFIX.length());
+        if (path.startsWith(QUOTE)) {
+            path = unquote(path);
+        }
+        else {
+            final int timestamp = path.indexOf('\t');
+            if (timestamp >= 0) {
+                path = path.substring(0, timestamp);
+            }
+        }
+        if (path.startsWith(GIT_NEW_PREFIX)) {
+            path = path.substring(GIT_NEW_PREFIX.length());
+        }
+        return path;
+    }
+
+    /**
+     * Removes the C-style quoting of a path, such as {@code "b/caf\303\251.java"}. Octal
+     * escapes are bytes of the UTF-8 encoded path. Anything after the closing quote, such as
+     * a timestamp, is dropped.
+     *
+     * @param quoted the path with its quotes
+     * @return the path
+     */
+    private static String unquote(String quoted) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int index = 1;
+        while (index < quoted.length() && quoted.charAt(index) != '"') {
+            int next = index;
+            while (next < quoted.length() && quoted.charAt(next) != '\\'
+                    && quoted.charAt(next) != '"') {
+                next++;
+            }
+            bytes.writeBytes(quoted.substring(index, next).getBytes(StandardCharsets.UTF_8));
+            index = next;
+            if (index < quoted.length() && quoted.charAt(index) == '\\') {
+                index = unescape(quoted, index + 1, bytes);
+            }
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the character of the escape sequence starting at the given index.
+     *
+     * @param quoted the quoted path
+     * @param start the index after the backslash
+     * @param bytes the unquoted path
+     * @return the index after the escape sequence
+     */
+    private static int unescape(String quoted, int start, ByteArrayOutputStream bytes) {
+        int result = quoted.length();
+        if (start < quoted.length()) {
+            final char escaped = quoted.charAt(start);
+            final int control = CONTROL_ESCAPES.indexOf(escaped);
+            result = start + 1;
+            if (isOctalDigit(escaped)) {
+                final int end = Math.min(quoted.length(), start + OCTAL_LENGTH);
+                while (result < end && isOctalDigit(quoted.charAt(result))) {
+                    result++;
+                }
+                bytes.write(Integer.parseInt(quoted.substring(start, result), OCTAL_RADIX));
+            }
+            else if (control >= 0) {
+                bytes.write(FIRST_CONTROL + control);
+            }
+            else {
+                bytes.write(escaped);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isOctalDigit(char character) {
+        return character >= '0' && character < '0' + OCTAL_RADIX;
+    }
+
+    private static List<String> runGitDiff(String ref) {
+        final ProcessBuilder builder = new ProcessBuilder("git", "-c", "core.quotePath=false",
+                "diff", "--unified=0", "--no-color", "--no-ext-diff", "--relative",
+                "--src-prefix=a/", "--dst-prefix=" + GIT_NEW_PREFIX, ref)
+                .redirectError(ProcessBuilder.Redirect.INHERIT);
+        final List<String> lines = new ArrayList<>();
+        try {
+            final Process process = builder.start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    process.getInputStream(), StandardCharsets.UTF_8))) {
+                reader.lines().forEach(lines::add);
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalArgumentException("git diff failed for: " + ref);
+            }
+        }
+        catch (IOException | UncheckedIOException exception) {
+            throw new IllegalArgumentException("Failed to run git diff for: " + ref,
+                    exception);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running git diff", exception);
+        }
+        return lines;
+    }
+
+    /**
+     * Sorted, possibly overlapping, ranges of lines of one file.
+     */
+    private static final class LineRanges {
+
+        /** Every line of a file. */
+        private static final LineRanges ALL = new LineRanges();
+
+        private final List<int[]> ranges = new ArrayList<>();
+
+        private void add(int first, int length) {
+            if (length > 0) {
+                ranges.add(new int[] {first, first + length - 1});
+            }
+        }
+
+        private boolean contains(int line) {
+            boolean result = this == ALL;
+            for (int index = 0; !result && index < ranges.size(); index++) {
+                result = line >= ranges.get(index)[0] && line <= ranges.get(index)[1];
+            }
+            return result;
+        }
+    }
+}
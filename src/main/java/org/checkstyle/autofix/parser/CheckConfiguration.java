@@ -17,21 +17,29 @@
 
 package org.checkstyle.autofix.parser;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import org.checkstyle.autofix.CheckstyleCheck;
 
 public final class CheckConfiguration {
     private final CheckstyleCheck check;
-    private final Map<String, String> globalProperties;
+    private final PropertyChain inherited;
     private final Map<String, String> properties;
 
     public CheckConfiguration(CheckstyleCheck name,
                               Map<String, String> globalProperties,
                               Map<String, String> properties) {
+        this(name, PropertyChain.EMPTY.child(globalProperties), properties);
+    }
+
+    CheckConfiguration(CheckstyleCheck name, PropertyChain inherited,
+                       Map<String, String> properties) {
         this.check = name;
-        this.globalProperties = new HashMap<>(globalProperties);
+        this.inherited = inherited;
         this.properties = new HashMap<>(properties);
     }
 
@@ -45,7 +53,7 @@ public final class CheckConfiguration {
             result = properties.get(key);
         }
         else {
-            result = globalProperties.get(key);
+            result = inherited.get(key);
         }
         return result;
     }
@@ -59,10 +67,19 @@ public final class CheckConfiguration {
     }
 
     public boolean hasProperty(String key) {
-        return properties.containsKey(key) || globalProperties.containsKey(key);
+        return properties.containsKey(key) || inherited.get(key) != null;
     }
 
-    public void setGlobalProperty(String key, String value) {
-        globalProperties.put(key, value);
+    /**
+     * Returns the effective properties, where properties of the check override inherited
+     * global properties, sorted by name.
+     *
+     * @return the properties
+     */
+    public SortedMap<String, String> getProperties() {
+        final SortedMap<String, String> result = new TreeMap<>();
+        inherited.collect(result);
+        result.putAll(properties);
+        return Collections.unmodifiableSortedMap(result);
     }
 }
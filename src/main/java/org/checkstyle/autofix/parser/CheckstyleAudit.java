@@ -0,0 +1,212 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.AuditEvent;
+import com.puppycrawl.tools.checkstyle.api.AuditListener;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+/**
+ * Runs Checkstyle in-process and streams its violations into a {@link ViolationIndex},
+ * so no report is written or parsed.
+ *
+ * <p>The configuration is pruned to the checks that can be fixed, keeping filters and
+ * holders that suppress violations. Files are audited in batches, each by its own
+ * {@link Checker} because checkers are not thread-safe, and the batches run in parallel.
+ */
+public final class CheckstyleAudit {
+
+    private static final Logger LOG = Logger.getLogger(CheckstyleAudit.class.getName());
+
+    private static final int BATCH_SIZE = 64;
+
+    private static final String TREE_WALKER = "TreeWalker";
+
+    private static final String FILTER_SUFFIX = "Filter";
+
+    private static final String HOLDER_SUFFIX = "Holder";
+
+    private static final String CACHE_FILE_PROPERTY = "cacheFile";
+
+    private CheckstyleAudit() {
+    }
+
+    /**
+     * Audits the given files.
+     *
+     * @param configuration the Checkstyle configuration
+     * @param files the files to audit
+     * @return the index of the fixable violations
+     * @throws IllegalStateException if Checkstyle fails
+     */
+    public static ViolationIndex audit(Configuration configuration, List<Path> files) {
+        final Configuration pruned = prune(configuration);
+        final ViolationIndex.Builder result = new ViolationIndex.Builder();
+        if (hasChecks(pruned)) {
+            final List<List<Path>> batches = new ArrayList<>();
+            for (int start = 0; start < files.size(); start += BATCH_SIZE) {
+                batches.add(files.subList(start, Math.min(files.size(), start + BATCH_SIZE)));
+            }
+            batches.parallelStream()
+                    .map(batch -> auditBatch(pruned, batch))
+                    .collect(Collectors.toList())
+                    .forEach(result::merge);
+        }
+        return result.build();
+    }
+
+    /**
+     * Copies the configuration without the checks that cannot be fixed. Filters, holders
+     * and the properties of the kept modules are copied as they are, a tree walker is
+     * kept only if it has a check left. The {@code cacheFile} of the checker is dropped,
+     * so the parallel audits of a pruned configuration neither read nor overwrite the
+     * cache of regular Checkstyle runs.
+     *
+     * @param configuration the configuration
+     * @return the pruned configuration
+     */
+    static Configuration prune(Configuration configuration) {
+        final DefaultConfiguration result = new DefaultConfiguration(configuration.getName());
+        for (String propertyName : configuration.getPropertyNames()) {
+            if (!CACHE_FILE_PROPERTY.equals(propertyName)) {
+                try {
+                    result.addProperty(propertyName, configuration.getProperty(propertyName));
+                }
+                catch (CheckstyleException exception) {
+                    throw new IllegalStateException("Failed to get property: " + propertyName,
+                            exception);
+                }
+            }
+        }
+        for (Map.Entry<String, String> message : configuration.getMessages().entrySet()) {
+            result.addMessage(message.getKey(), message.getValue());
+        }
+        for (Configuration child : configuration.getChildren()) {
+            final String name = child.getName();
+            if (TREE_WALKER.equals(name)) {
+                final Configuration prunedChild = prune(child);
+                if (hasChecks(prunedChild)) {
+                    result.addChild(prunedChild);
+                }
+            }
+            else if (CheckstyleCheck.fromSource(name).isPresent()
+                    || name.endsWith(FILTER_SUFFIX) || name.endsWith(HOLDER_SUFFIX)) {
+                result.addChild(prune(child));
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasChecks(Configuration configuration) {
+        boolean result = CheckstyleCheck.fromSource(configuration.getName()).isPresent();
+        for (Configuration child : configuration.getChildren()) {
+            result |= hasChecks(child);
+        }
+        return result;
+    }
+
+    private static ViolationIndex.Builder auditBatch(Configuration configuration,
+                                                     List<Path> batch) {
+        final IndexingListener listener = new IndexingListener();
+        final Checker checker = new Checker();
+        try {
+            checker.setModuleClassLoader(Checker.class.getClassLoader());
+            checker.configure(configuration);
+            checker.addListener(listener);
+            final List<File> files = new ArrayList<>(batch.size());
+            for (Path path : batch) {
+                files.add(path.toFile());
+            }
+            checker.process(files);
+        }
+        catch (CheckstyleException exception) {
+            throw new IllegalStateException("Failed to audit " + batch, exception);
+        }
+        finally {
+            checker.destroy();
+        }
+        return listener.violations;
+    }
+
+    /**
+     * Adds every violation of a fixable check to the index of its batch.
+     */
+    private static final class IndexingListener implements AuditListener {
+
+        private static final int NO_COLUMN = -1;
+
+        private final ViolationIndex.Builder violations = new ViolationIndex.Builder();
+
+        @Override
+        public void auditStarted(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void auditFinished(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void fileStarted(AuditEvent event) {
+            // no code
+        }
+
+        @Override
+        public void fileFinished(AuditEvent event) {
+            // no code
+        }
+
+        /**
+         * Indexes a violation. A column of 0 means the violation has no column, which
+         * reports leave out and the index stores as -1.
+         *
+         * @param event the violation
+         */
+        @Override
+        public void addError(AuditEvent event) {
+            CheckstyleCheck.fromSource(event.getSourceName()).ifPresent(check -> {
+                int column = event.getColumn();
+                if (column <= 0) {
+                    column = NO_COLUMN;
+                }
+                violations.add(Path.of(event.getFileName()), event.getLine(), column,
+                        event.getSeverityLevel(), check, event.getMessage());
+            });
+        }
+
+        @Override
+        public void addException(AuditEvent event, Throwable throwable) {
+            LOG.log(Level.WARNING, "Failed to audit " + event.getFileName(), throwable);
+        }
+    }
+}
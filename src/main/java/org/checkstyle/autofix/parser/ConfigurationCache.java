@@ -0,0 +1,370 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+
+/**
+ * On-disk cache of mapped Checkstyle configurations.
+ *
+ * <p>An entry is keyed by the configuration source and a hash of the properties used to
+ * expand it, and records a hash of the configuration content and when the content was last
+ * fetched. A local configuration is hashed on every load, which is much cheaper than
+ * parsing it. A configuration given as a URL, such as an {@code https} link to a shared
+ * configuration, is used without any request while its entry is younger than the time to
+ * live; after that it is fetched again and parsed only if its content changed. When the
+ * fetch fails, an expired entry is used. Configurations loaded from the classpath are not
+ * cached.
+ *
+ * <p>Layout: a magic number, the format version, the content hash, the fetch time and
+ * the number of checks, followed by the name and the property count of every check and
+ * its effective properties as length-prefixed UTF-8 names and values. All numbers are
+ * big-endian. A count or length that does not fit in the rest of the file marks the entry
+ * as corrupt, and a corrupt entry is ignored like a missing one.
+ */
+public final class ConfigurationCache {
+
+    /** Time to live of cached remote configurations when none is configured. */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private static final Logger LOG = Logger.getLogger(ConfigurationCache.class.getName());
+
+    private static final String SUFFIX = ".autofix-config";
+
+    private static final String KEY_SEPARATOR = "-";
+
+    private static final String DOWNLOAD_SUFFIX = ".xml";
+
+    private static final int MAGIC = 0x43534343;
+
+    private static final int VERSION = 1;
+
+    /** Smallest size of a check: the length of its name and its property count. */
+    private static final int MINIMUM_CHECK_SIZE = 2 * Integer.BYTES;
+
+    /** Smallest size of a property: the lengths of its name and its value. */
+    private static final int MINIMUM_PROPERTY_SIZE = 2 * Integer.BYTES;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private static final Pattern URL = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+.-]+:/");
+
+    private ConfigurationCache() {
+    }
+
+    /**
+     * Returns the mapped configuration, read from the cache when its entry is valid and
+     * loaded with {@link ConfigurationLoader} otherwise.
+     *
+     * @param cacheDirectory the cache directory, created if missing
+     * @param timeToLive how long a fetched remote configuration is used without a request
+     * @param configurationPath the path or URL of the Checkstyle configuration
+     * @param propertiesPath the path of the properties file, may be null
+     * @return the mapped configuration
+     * @throws IllegalStateException if the configuration cannot be loaded
+     */
+    public static Map<CheckstyleCheck, CheckConfiguration> load(Path cacheDirectory,
+            Duration timeToLive, String configurationPath, String propertiesPath) {
+        final HexFormat hex = HexFormat.of();
+        final Path cachePath = cacheDirectory.resolve(
+                hex.toHexDigits(hash(configurationPath.getBytes(StandardCharsets.UTF_8)))
+                + KEY_SEPARATOR + hex.toHexDigits(hashProperties(propertiesPath)) + SUFFIX);
+        final Map<CheckstyleCheck, CheckConfiguration> result;
+        if (URL.matcher(configurationPath).find()) {
+            result = loadRemote(cachePath, timeToLive, configurationPath, propertiesPath);
+        }
+        else if (Files.isRegularFile(Path.of(configurationPath))) {
+            result = loadLocal(cachePath, configurationPath, propertiesPath);
+        }
+        else {
+            result = ConfigurationLoader.loadConfiguration(configurationPath, propertiesPath);
+        }
+        return result;
+    }
+
+    private static Map<CheckstyleCheck, CheckConfiguration> loadLocal(Path cachePath,
+            String configurationPath, String propertiesPath) {
+        final long contentHash = hash(readFile(configurationPath));
+        final Optional<Entry> entry = read(cachePath);
+        final Map<CheckstyleCheck, CheckConfiguration> result;
+        if (entry.isPresent() && entry.get().contentHash == contentHash) {
+            result = entry.get().configuration;
+        }
+        else {
+            result = ConfigurationLoader.loadConfiguration(configurationPath, propertiesPath);
+            write(cachePath, new Entry(contentHash, System.currentTimeMillis(), result));
+        }
+        return result;
+    }
+
+    private static Map<CheckstyleCheck, CheckConfiguration> loadRemote(Path cachePath,
+            Duration timeToLive, String configurationPath, String propertiesPath) {
+        final Optional<Entry> entry = read(cachePath);
+        final long now = System.currentTimeMillis();
+        Map<CheckstyleCheck, CheckConfiguration> result = null;
+        if (entry.isPresent() && now - entry.get().fetched < timeToLive.toMillis()) {
+            result = entry.get().configuration;
+        }
+        else {
+            byte[] content = null;
+            try (InputStream input = URI.create(configurationPath).toURL().openStream()) {
+                content = input.readAllBytes();
+            }
+            catch (IOException exception) {
+                if (entry.isEmpty()) {
+                    throw new IllegalStateException("Failed to fetch configuration: "
+                            + configurationPath, exception);
+                }
+                LOG.log(Level.WARNING, "Using expired cached configuration of "
+                        + configurationPath, exception);
+                result = entry.get().configuration;
+            }
+            if (content != null) {
+                final long contentHash = hash(content);
+                if (entry.isPresent() && entry.get().contentHash == contentHash) {
+                    result = entry.get().configuration;
+                }
+                else {
+                    result = parseDownload(cachePath, content, propertiesPath);
+                }
+                write(cachePath, new Entry(contentHash, now, result));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a fetched configuration from a temporary copy, so that it is not fetched
+     * a second time by the Checkstyle loader.
+     *
+     * @param cachePath the path of the cache entry
+     * @param content the fetched configuration
+     * @param propertiesPath the path of the properties file, may be null
+     * @return the mapped configuration
+     * @throws IllegalStateException if the copy cannot be written or parsed
+     */
+    private static Map<CheckstyleCheck, CheckConfiguration> parseDownload(Path cachePath,
+            byte[] content, String propertiesPath) {
+        final Path directory = cachePath.toAbsolutePath().getParent();
+        Path download = null;
+        try {
+            Files.createDirectories(directory);
+            download = Files.createTempFile(directory, cachePath.getFileName().toString(),
+                    DOWNLOAD_SUFFIX);
+            Files.write(download, content);
+            return ConfigurationLoader.loadConfiguration(download.toString(), propertiesPath);
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Failed to store downloaded configuration in "
+                    + directory, exception);
+        }
+        finally {
+            deleteQuietly(download);
+        }
+    }
+
+    /**
+     * Hashes the properties file, or the system properties when no file is given because
+     * the configuration is expanded with them then.
+     *
+     * @param propertiesPath the path of the properties file, may be null
+     * @return the hash
+     */
+    private static long hashProperties(String propertiesPath) {
+        final long result;
+        if (propertiesPath == null) {
+            final Properties properties = System.getProperties();
+            final StringBuilder text = new StringBuilder();
+            properties.stringPropertyNames().stream().sorted().forEach(name -> {
+                text.append(name).append('=').append(properties.getProperty(name)).append('\n');
+            });
+            result = hash(text.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        else {
+            result = hash(readFile(propertiesPath));
+        }
+        return result;
+    }
+
+    private static byte[] readFile(String filePath) {
+        try {
+            return Files.readAllBytes(Path.of(filePath));
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Failed to read: " + filePath, exception);
+        }
+    }
+
+    private static long hash(byte[] content) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte value : content) {
+            hash = (hash ^ value) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static Optional<Entry> read(Path cachePath) {
+        Optional<Entry> result = Optional.empty();
+        if (Files.isRegularFile(cachePath)) {
+            try (DataInputStream input = new DataInputStream(
+                    new ByteArrayInputStream(Files.readAllBytes(cachePath)))) {
+                if (input.readInt() == MAGIC && input.readInt() == VERSION) {
+                    result = Optional.of(readEntry(input));
+                }
+            }
+            catch (IOException | IllegalArgumentException exception) {
+                LOG.log(Level.FINE, "Ignoring unreadable configuration cache " + cachePath,
+                        exception);
+            }
+        }
+        return result;
+    }
+
+    private static Entry readEntry(DataInputStream input) throws IOException {
+        final long contentHash = input.readLong();
+        final long fetched = input.readLong();
+        final Map<CheckstyleCheck, CheckConfiguration> configuration =
+                new EnumMap<>(CheckstyleCheck.class);
+        final int checkCount = readCount(input, MINIMUM_CHECK_SIZE);
+        for (int checkIndex = 0; checkIndex < checkCount; checkIndex++) {
+            final CheckstyleCheck check = CheckstyleCheck.valueOf(readString(input));
+            final Map<String, String> properties = new LinkedHashMap<>();
+            final int propertyCount = readCount(input, MINIMUM_PROPERTY_SIZE);
+            for (int propertyIndex = 0; propertyIndex < propertyCount; propertyIndex++) {
+                properties.put(readString(input), readString(input));
+            }
+            configuration.put(check, new CheckConfiguration(check, Map.of(), properties));
+        }
+        return new Entry(contentHash, fetched, configuration);
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[readCount(input, 1)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length and checks that its elements fit in the rest of the entry, so
+     * that a corrupt entry cannot allocate a negative or huge array.
+     *
+     * @param input the entry, read from memory so that all remaining bytes are available
+     * @param elementSize the smallest size of an element in bytes
+     * @return the count
+     * @throws IOException if the count is negative or too large for the entry
+     */
+    private static int readCount(DataInputStream input, int elementSize) throws IOException {
+        final int count = input.readInt();
+        if (count < 0 || (long) count * elementSize > input.available()) {
+            throw new IOException("Corrupt configuration cache entry, invalid count " + count);
+        }
+        return count;
+    }
+
+    private static void write(Path cachePath, Entry entry) {
+        Path tempPath = null;
+        try {
+            final Path directory = Files.createDirectories(cachePath.toAbsolutePath().getParent());
+            tempPath = Files.createTempFile(directory, cachePath.getFileName().toString(), null);
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeLong(entry.contentHash);
+                output.writeLong(entry.fetched);
+                output.writeInt(entry.configuration.size());
+                for (Map.Entry<CheckstyleCheck, CheckConfiguration> check
+                        : entry.configuration.entrySet()) {
+                    writeString(output, check.getKey().name());
+                    final Map<String, String> properties = check.getValue().getProperties();
+                    output.writeInt(properties.size());
+                    for (Map.Entry<String, String> property : properties.entrySet()) {
+                        writeString(output, property.getKey());
+                        writeString(output, property.getValue());
+                    }
+                }
+            }
+            Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException exception) {
+            LOG.log(Level.FINE, "Unable to write configuration cache " + cachePath, exception);
+            deleteQuietly(tempPath);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException exception) {
+                LOG.log(Level.FINE, "Unable to delete " + path, exception);
+            }
+        }
+    }
+
+    /**
+     * A cached configuration with the hash of its content and the time it was fetched.
+     */
+    private static final class Entry {
+
+        private final long contentHash;
+
+        private final long fetched;
+
+        private final Map<CheckstyleCheck, CheckConfiguration> configuration;
+
+        private Entry(long contentHash, long fetched,
+                      Map<CheckstyleCheck, CheckConfiguration> configuration) {
+            this.contentHash = contentHash;
+            this.fetched = fetched;
+            this.configuration = configuration;
+        }
+    }
+}
@@ -19,10 +19,13 @@ package org.checkstyle.autofix.parser;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 
 import org.checkstyle.autofix.CheckstyleCheck;
 
@@ -37,25 +40,45 @@ public final class ConfigurationLoader {
     }
 
     public static Map<CheckstyleCheck, CheckConfiguration> mapConfiguration(Configuration config) {
-        final Map<CheckstyleCheck, CheckConfiguration> result = new HashMap<>();
-        final Map<String, String> inherited = getProperties(config);
+        return mapConfiguration(config, EnumSet.allOf(CheckstyleCheck.class));
+    }
 
-        final Optional<CheckstyleCheck> module = CheckstyleCheck.fromSource(config.getName());
-        module.ifPresent(checkstyleCheck -> {
-            result.put(checkstyleCheck, new CheckConfiguration(checkstyleCheck, new HashMap<>(),
-                    getProperties(config)));
-        });
-
-        for (Configuration child : config.getChildren()) {
-            mapConfiguration(child).forEach((childModule, childConfig) -> {
-                inherited.forEach(childConfig::setGlobalProperty);
-                result.put(childModule, childConfig);
-            });
+    /**
+     * Maps the modules of the given checks. Only the properties of those modules and of
+     * the modules enclosing them are read, and the properties of an enclosing module are
+     * shared by the checks below it instead of being copied into each of them.
+     *
+     * @param config the Checkstyle configuration
+     * @param checks the checks to map
+     * @return the configuration of every given check that is configured
+     */
+    public static Map<CheckstyleCheck, CheckConfiguration> mapConfiguration(
+            Configuration config, Set<CheckstyleCheck> checks) {
+        final Map<CheckstyleCheck, CheckConfiguration> result =
+                new EnumMap<>(CheckstyleCheck.class);
+        if (!checks.isEmpty()) {
+            mapModule(config, PropertyChain.EMPTY, checks, result);
         }
-
         return result;
     }
 
+    private static void mapModule(Configuration config, PropertyChain inherited,
+                                  Set<CheckstyleCheck> checks,
+                                  Map<CheckstyleCheck, CheckConfiguration> result) {
+        final Optional<CheckstyleCheck> module = CheckstyleCheck.fromSource(config.getName());
+        if (module.isPresent() && checks.contains(module.get())) {
+            result.put(module.get(),
+                    new CheckConfiguration(module.get(), inherited, getProperties(config)));
+        }
+        final Configuration[] children = config.getChildren();
+        if (children.length > 0) {
+            final PropertyChain chain = inherited.child(getProperties(config));
+            for (Configuration child : children) {
+                mapModule(child, chain, checks, result);
+            }
+        }
+    }
+
     private static Map<String, String> getProperties(Configuration config) {
         final Map<String, String> props = new HashMap<>();
         for (String prop : config.getPropertyNames()) {
@@ -71,6 +94,35 @@ public final class ConfigurationLoader {
 
     public static Map<CheckstyleCheck, CheckConfiguration> loadConfiguration(
             String checkstyleConfigurationPath, String propFile) {
+        return mapConfiguration(loadCheckstyleConfiguration(checkstyleConfigurationPath,
+                propFile));
+    }
+
+    /**
+     * Loads the configuration and maps only the modules of the given checks.
+     *
+     * @param checkstyleConfigurationPath the path of the Checkstyle configuration
+     * @param propFile the path of the properties file, may be null
+     * @param checks the checks to map
+     * @return the configuration of every given check that is configured
+     */
+    public static Map<CheckstyleCheck, CheckConfiguration> loadConfiguration(
+            String checkstyleConfigurationPath, String propFile, Set<CheckstyleCheck> checks) {
+        return mapConfiguration(loadCheckstyleConfiguration(checkstyleConfigurationPath,
+                propFile), checks);
+    }
+
+    /**
+     * Loads the Checkstyle configuration with properties expanded from the given file,
+     * or from the system properties if no file is given.
+     *
+     * @param checkstyleConfigurationPath the path of the Checkstyle configuration
+     * @param propFile the path of the properties file, may be null
+     * @return the configuration
+     * @throws IllegalStateException if the configuration or properties cannot be read
+     */
+    public static Configuration loadCheckstyleConfiguration(
+            String checkstyleConfigurationPath, String propFile) {
         Properties props = new Properties();
         if (propFile == null) {
             props = System.getProperties();
@@ -95,7 +147,7 @@ public final class ConfigurationLoader {
                     + checkstyleConfigurationPath, exception);
         }
 
-        return mapConfiguration(checkstyleConfig);
+        return checkstyleConfig;
     }
 
 }
@@ -0,0 +1,612 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * Violations of a single source file stored column by column.
+ *
+ * <p>Rows are grouped by check and sorted by line and column within each check, so the
+ * check of a row is implied by its position and needs no storage. Messages are ids into
+ * the dictionary shared by the whole {@link ViolationIndex}. Positions are found through
+ * an open-addressing table of row numbers, which keeps a violation at about 18 bytes:
+ * two {@code int} positions, a {@code byte} severity, an {@code int} message id and
+ * a table slot at 0.75 load.
+ *
+ * <p>All columns live in one block with the layout
+ * {@code checkStarts[checks + 1], lines[rows], columns[rows], messageIds[rows],
+ * slots[slotCount], severities[rows]}, so a block built in memory and a block mapped
+ * from a cached index are read the same way.
+ *
+ * <p>The columns are never modified after the file violations are built. Consumed
+ * violations are tracked in a lock-free bitmap with per-check counters of the remaining
+ * violations, so files may be fixed concurrently.
+ *
+ * <p>Fixers that visit a file in source order match violations through a
+ * {@link #cursor(CheckstyleCheck) cursor}, which merges the visited positions with the
+ * sorted rows of a check instead of probing the position table.
+ */
+public final class FileViolations {
+
+    /** Shared instance for files without violations. */
+    static final FileViolations EMPTY = new Builder(null).build(MessageDictionary.EMPTY);
+
+    private static final CheckstyleCheck[] CHECKS = CheckstyleCheck.values();
+
+    private static final SeverityLevel[] SEVERITIES = SeverityLevel.values();
+
+    private static final int LOAD_NUMERATOR = 4;
+
+    private static final int LOAD_DENOMINATOR = 3;
+
+    private static final int LINE_MULTIPLIER = 31;
+
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private static final int HALF_INT_BITS = 16;
+
+    private static final int INT_COLUMNS = 3;
+
+    private static final int WORD_SHIFT = 6;
+
+    private static final int COLUMN_BITS = 32;
+
+    private final Path filePath;
+
+    private final ByteBuffer block;
+
+    private final int[] checkStarts;
+
+    private final IntBuffer lines;
+
+    private final IntBuffer columns;
+
+    private final IntBuffer messageIds;
+
+    private final IntBuffer slots;
+
+    private final ByteBuffer severities;
+
+    private final MessageDictionary messages;
+
+    private final AtomicLongArray consumed;
+
+    private final AtomicIntegerArray remaining;
+
+    /**
+     * Creates file violations over a block of columns.
+     *
+     * @param filePath the reported path of the file
+     * @param block the columns of the file
+     * @param rows the number of violations
+     * @param slotCount the size of the position table
+     * @param messages the message dictionary of the index
+     */
+    FileViolations(Path filePath, ByteBuffer block, int rows, int slotCount,
+                   MessageDictionary messages) {
+        this.filePath = filePath;
+        this.block = block;
+        this.messages = messages;
+        final int checkCount = CheckstyleCheck.values().length;
+        checkStarts = new int[checkCount + 1];
+        block.asIntBuffer().get(0, checkStarts);
+        int offset = checkStarts.length * Integer.BYTES;
+        lines = view(block, offset, rows);
+        offset += rows * Integer.BYTES;
+        columns = view(block, offset, rows);
+        offset += rows * Integer.BYTES;
+        messageIds = view(block, offset, rows);
+        offset += rows * Integer.BYTES;
+        slots = view(block, offset, slotCount);
+        offset += slotCount * Integer.BYTES;
+        severities = block.slice(offset, rows);
+        consumed = new AtomicLongArray((rows >>> WORD_SHIFT) + 1);
+        remaining = new AtomicIntegerArray(checkCount);
+        for (int check = 0; check < checkCount; check++) {
+            remaining.set(check, checkStarts[check + 1] - checkStarts[check]);
+        }
+    }
+
+    /**
+     * Returns the path of the file as it was written in the report.
+     *
+     * @return the reported file path
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public int size() {
+        return lines.limit();
+    }
+
+    public CheckstyleCheck getCheck(int row) {
+        int check = 0;
+        while (checkStarts[check + 1] <= row) {
+            check++;
+        }
+        return CHECKS[check];
+    }
+
+    public int getLine(int row) {
+        return lines.get(row);
+    }
+
+    public int getColumn(int row) {
+        return columns.get(row);
+    }
+
+    public SeverityLevel getSeverity(int row) {
+        return SEVERITIES[severities.get(row)];
+    }
+
+    public String getMessage(int row) {
+        return messages.get(messageIds.get(row));
+    }
+
+    /**
+     * Checks whether the file has at least one remaining violation of the given check.
+     *
+     * @param check the check to look up
+     * @return {@code true} if a violation of the check is reported for this file
+     */
+    public boolean hasViolations(CheckstyleCheck check) {
+        return remaining.get(check.ordinal()) > 0;
+    }
+
+    /**
+     * Returns the number of remaining violations of the given check.
+     *
+     * @param check the check
+     * @return the number of violations that are not consumed yet
+     */
+    public int getViolationCount(CheckstyleCheck check) {
+        return remaining.get(check.ordinal());
+    }
+
+    /**
+     * Checks whether a violation of the given check is reported at the given position.
+     *
+     * @param check the check to look up
+     * @param line 1-based line
+     * @param column 1-based column
+     * @return {@code true} if a violation is reported at the position
+     */
+    public boolean contains(CheckstyleCheck check, int line, int column) {
+        final int row = slots.get(findSlot(check, line, column)) - 1;
+        return row >= 0 && !isConsumed(row);
+    }
+
+    /**
+     * Removes the violation of the given check at the given position.
+     *
+     * @param check the check to look up
+     * @param line 1-based line
+     * @param column 1-based column
+     * @return {@code true} if a violation was reported at the position
+     */
+    public boolean consume(CheckstyleCheck check, int line, int column) {
+        final int row = slots.get(findSlot(check, line, column)) - 1;
+        return row >= 0 && consumeRow(check, row);
+    }
+
+    /**
+     * Removes all violations of the given check.
+     *
+     * @param check the check to look up
+     * @return {@code true} if at least one violation was reported
+     */
+    public boolean consumeAll(CheckstyleCheck check) {
+        final int end = checkStarts[check.ordinal() + 1];
+        boolean result = false;
+        for (int row = checkStarts[check.ordinal()]; row < end; row++) {
+            result |= consumeRow(check, row);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new cursor over the violations of the given check. A cursor is meant for
+     * one traversal of the file by one thread.
+     *
+     * @param check the check whose violations are matched
+     * @return the cursor, positioned before the first violation of the check
+     */
+    public CheckCursor cursor(CheckstyleCheck check) {
+        return new CheckCursor(check);
+    }
+
+    /**
+     * Creates file violations over the same columns with all violations remaining. The
+     * consumed state of this instance is not carried over.
+     *
+     * @return the copy
+     */
+    FileViolations copy() {
+        return new FileViolations(filePath, block, size(), getSlotCount(), messages);
+    }
+
+    /**
+     * Returns the block holding all columns of the file.
+     *
+     * @return read-only view of the block
+     */
+    ByteBuffer getBlock() {
+        return block.asReadOnlyBuffer();
+    }
+
+    int getSlotCount() {
+        return slots.limit();
+    }
+
+    /**
+     * Returns a bit set of the checks reported for the file, indexed by ordinal.
+     *
+     * @return the check mask
+     */
+    int getCheckMask() {
+        int mask = 0;
+        for (int check = 0; check < remaining.length(); check++) {
+            if (checkStarts[check + 1] > checkStarts[check]) {
+                mask |= 1 << check;
+            }
+        }
+        return mask;
+    }
+
+    private boolean isConsumed(int row) {
+        return (consumed.get(row >>> WORD_SHIFT) & 1L << row) != 0;
+    }
+
+    private boolean consumeRow(CheckstyleCheck check, int row) {
+        final boolean result = markConsumed(row);
+        if (result) {
+            remaining.decrementAndGet(check.ordinal());
+        }
+        return result;
+    }
+
+    /**
+     * Marks a row as consumed unless another caller already did.
+     *
+     * @param row the row to mark
+     * @return {@code true} if this call consumed the row
+     */
+    private boolean markConsumed(int row) {
+        final int word = row >>> WORD_SHIFT;
+        final long bit = 1L << row;
+        long previous = consumed.get(word);
+        while ((previous & bit) == 0 && !consumed.compareAndSet(word, previous, previous | bit)) {
+            previous = consumed.get(word);
+        }
+        return (previous & bit) == 0;
+    }
+
+    private void fillSlots() {
+        for (int row = 0; row < size(); row++) {
+            slots.put(findSlot(getCheck(row), lines.get(row), columns.get(row)), row + 1);
+        }
+    }
+
+    /**
+     * Returns the slot holding the row of the given violation, or the empty slot where
+     * it would be stored.
+     *
+     * @param check the check of the violation
+     * @param line the line of the violation
+     * @param column the column of the violation
+     * @return slot index
+     */
+    private int findSlot(CheckstyleCheck check, int line, int column) {
+        final int start = checkStarts[check.ordinal()];
+        final int end = checkStarts[check.ordinal() + 1];
+        final int slotCount = slots.limit();
+        int slot = Math.floorMod(hash(check, line, column), slotCount);
+        while (slots.get(slot) != 0 && !isRow(slots.get(slot) - 1, start, end, line, column)) {
+            slot = (slot + 1) % slotCount;
+        }
+        return slot;
+    }
+
+    private boolean isRow(int row, int start, int end, int line, int column) {
+        return row >= start && row < end && lines.get(row) == line
+                && columns.get(row) == column;
+    }
+
+    private static int hash(CheckstyleCheck check, int line, int column) {
+        final int mixed = ((line * LINE_MULTIPLIER + column) * LINE_MULTIPLIER
+                + check.ordinal()) * GOLDEN_RATIO;
+        return mixed ^ mixed >>> HALF_INT_BITS;
+    }
+
+    private static IntBuffer view(ByteBuffer block, int offset, int length) {
+        return block.slice(offset, length * Integer.BYTES).asIntBuffer();
+    }
+
+    /**
+     * Packs a position into a value that orders like the rows. Columns are sorted as signed
+     * values, and the -1 stored for a missing column must stay below column 0, so the
+     * column is shifted by one into the unsigned range before it is packed.
+     *
+     * @param line the line
+     * @param column the column, or -1 if the position has none
+     * @return the packed position
+     */
+    private static long toPosition(int line, int column) {
+        return (long) line << COLUMN_BITS | Integer.toUnsignedLong(column + 1);
+    }
+
+    /**
+     * Cursor over the violations of one check that moves forward with a traversal of the
+     * file in source order.
+     *
+     * <p>The rows of a check are sorted by line and column, so a position after the last
+     * passed row is matched by advancing over the rows before it, without hashing. A matched
+     * row is passed as well. A position at or before the last passed row, as queried by the
+     * hook of an enclosing element that runs after its children, is looked up in the
+     * position table instead. Once the cursor is {@link #isExhausted() exhausted}, no
+     * position after the current one has a violation of the check.
+     */
+    public final class CheckCursor {
+
+        private final CheckstyleCheck check;
+
+        private final int start;
+
+        private final int end;
+
+        private int next;
+
+        private CheckCursor(CheckstyleCheck check) {
+            this.check = check;
+            start = checkStarts[check.ordinal()];
+            end = checkStarts[check.ordinal() + 1];
+            next = start;
+        }
+
+        /**
+         * Tells whether the cursor has passed all violations of the check.
+         *
+         * @return {@code true} if no violation is left ahead of the cursor
+         */
+        public boolean isExhausted() {
+            return next == end;
+        }
+
+        /**
+         * Moves to the given position and checks whether a violation is reported there.
+         *
+         * @param line 1-based line
+         * @param column 1-based column
+         * @return {@code true} if a violation that is not consumed is reported at the position
+         */
+        public boolean contains(int line, int column) {
+            final boolean result;
+            if (isBehind(line, column)) {
+                result = FileViolations.this.contains(check, line, column);
+            }
+            else {
+                final int row = advance(line, column);
+                result = row >= 0 && !isConsumed(row);
+            }
+            return result;
+        }
+
+        /**
+         * Moves to the given position and removes the violation reported there.
+         *
+         * @param line 1-based line
+         * @param column 1-based column
+         * @return {@code true} if a violation was reported at the position
+         */
+        public boolean consume(int line, int column) {
+            final boolean result;
+            if (isBehind(line, column)) {
+                result = FileViolations.this.consume(check, line, column);
+            }
+            else {
+                final int row = advance(line, column);
+                result = row >= 0 && consumeRow(check, row);
+            }
+            return result;
+        }
+
+        private boolean isBehind(int line, int column) {
+            return next > start && toPosition(line, column) <= getPosition(next - 1);
+        }
+
+        /**
+         * Passes the rows before the given position and the row at it.
+         *
+         * @param line 1-based line
+         * @param column 1-based column
+         * @return the row at the position, or -1 if there is none
+         */
+        private int advance(int line, int column) {
+            final long position = toPosition(line, column);
+            while (next < end && getPosition(next) < position) {
+                next++;
+            }
+            int result = -1;
+            if (next < end && getPosition(next) == position) {
+                result = next;
+                next++;
+            }
+            return result;
+        }
+
+        private long getPosition(int row) {
+            return toPosition(lines.get(row), columns.get(row));
+        }
+    }
+
+    /**
+     * Collects the violations of one file in report order.
+     */
+    static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final Path filePath;
+
+        private int[] lines = new int[INITIAL_CAPACITY];
+
+        private int[] columns = new int[INITIAL_CAPACITY];
+
+        private byte[] severities = new byte[INITIAL_CAPACITY];
+
+        private byte[] checks = new byte[INITIAL_CAPACITY];
+
+        private int[] messageIds = new int[INITIAL_CAPACITY];
+
+        private int size;
+
+        Builder(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        /**
+         * Creates an empty builder for the same file.
+         *
+         * @return the new builder
+         */
+        Builder copyEmpty() {
+            return new Builder(filePath);
+        }
+
+        void add(int line, int column, SeverityLevel severity, CheckstyleCheck check,
+                 int messageId) {
+            addRow(line, column, (byte) severity.ordinal(), (byte) check.ordinal(), messageId);
+        }
+
+        /**
+         * Appends all rows of another builder of the same file.
+         *
+         * @param other the builder to copy
+         * @param messageIds maps message ids of the other builder to ids of this one
+         */
+        void addAll(Builder other, int[] messageIds) {
+            for (int row = 0; row < other.size; row++) {
+                addRow(other.lines[row], other.columns[row], other.severities[row],
+                        other.checks[row], messageIds[other.messageIds[row]]);
+            }
+        }
+
+        private void addRow(int line, int column, byte severity, byte check, int messageId) {
+            if (size == lines.length) {
+                final int capacity = size * 2;
+                lines = Arrays.copyOf(lines, capacity);
+                columns = Arrays.copyOf(columns, capacity);
+                severities = Arrays.copyOf(severities, capacity);
+                checks = Arrays.copyOf(checks, capacity);
+                messageIds = Arrays.copyOf(messageIds, capacity);
+            }
+            lines[size] = line;
+            columns[size] = column;
+            severities[size] = severity;
+            checks[size] = check;
+            messageIds[size] = messageId;
+            size++;
+        }
+
+        /**
+         * Sorts the rows by check, line and column, drops rows reported twice
+         * at the same position and builds the columnar file violations.
+         *
+         * @param messages the message dictionary of the index
+         * @return the file violations
+         */
+        FileViolations build(MessageDictionary messages) {
+            final int[] order = sortedOrder();
+            int rows = 0;
+            for (int index = 0; index < size; index++) {
+                if (rows == 0 || compare(order[rows - 1], order[index]) != 0) {
+                    order[rows] = order[index];
+                    rows++;
+                }
+            }
+            final int checkCount = CheckstyleCheck.values().length;
+            final int slotCount = rows * LOAD_NUMERATOR / LOAD_DENOMINATOR + 1;
+            final ByteBuffer block = ByteBuffer.allocate(
+                    (checkCount + 1 + rows * INT_COLUMNS + slotCount) * Integer.BYTES + rows);
+            final int[] checkStarts = new int[checkCount + 1];
+            for (int row = 0; row < rows; row++) {
+                checkStarts[checks[order[row]] + 1] = row + 1;
+            }
+            for (int check = 1; check < checkStarts.length; check++) {
+                checkStarts[check] = Math.max(checkStarts[check], checkStarts[check - 1]);
+            }
+            final IntBuffer ints = block.asIntBuffer();
+            ints.put(checkStarts);
+            final int severitiesOffset =
+                    (checkStarts.length + rows * INT_COLUMNS + slotCount) * Integer.BYTES;
+            for (int row = 0; row < rows; row++) {
+                ints.put(checkStarts.length + row, lines[order[row]]);
+                ints.put(checkStarts.length + rows + row, columns[order[row]]);
+                ints.put(checkStarts.length + rows * 2 + row, messageIds[order[row]]);
+                block.put(severitiesOffset + row, severities[order[row]]);
+            }
+            final FileViolations result =
+                    new FileViolations(filePath, block, rows, slotCount, messages);
+            result.fillSlots();
+            return result;
+        }
+
+        private int[] sortedOrder() {
+            final int[] order = new int[size];
+            boolean sorted = true;
+            for (int index = 0; index < size; index++) {
+                order[index] = index;
+                if (index > 0 && compare(index - 1, index) > 0) {
+                    sorted = false;
+                }
+            }
+            if (!sorted) {
+                final Integer[] boxed = Arrays.stream(order).boxed().toArray(Integer[]::new);
+                final Comparator<Integer> comparator = this::compare;
+                Arrays.sort(boxed, comparator);
+                for (int index = 0; index < size; index++) {
+                    order[index] = boxed[index];
+                }
+            }
+            return order;
+        }
+
+        private int compare(int first, int second) {
+            int result = Byte.compare(checks[first], checks[second]);
+            if (result == 0) {
+                result = Integer.compare(lines[first], lines[second]);
+            }
+            if (result == 0) {
+                result = Integer.compare(columns[first], columns[second]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Distinct violation messages of an index, referenced from file violations by id.
+ *
+ * <p>A dictionary read from a cached index keeps the encoded messages in the mapped
+ * buffer and decodes a message only the first time it is requested.
+ */
+final class MessageDictionary {
+
+    /** Dictionary without messages. */
+    static final MessageDictionary EMPTY = new MessageDictionary(new String[0], null, null);
+
+    private final String[] messages;
+
+    private final IntBuffer offsets;
+
+    private final ByteBuffer bytes;
+
+    private MessageDictionary(String[] messages, IntBuffer offsets, ByteBuffer bytes) {
+        this.messages = messages;
+        this.offsets = offsets;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Creates a dictionary of decoded messages.
+     *
+     * @param messages the messages in id order
+     * @return the dictionary
+     */
+    static MessageDictionary of(List<String> messages) {
+        return new MessageDictionary(messages.toArray(new String[0]), null, null);
+    }
+
+    /**
+     * Creates a dictionary over an encoded section: {@code size + 1} offsets followed
+     * by the UTF-8 bytes of all messages.
+     *
+     * @param section the encoded section
+     * @param size the number of messages
+     * @return the dictionary
+     */
+    static MessageDictionary map(ByteBuffer section, int size) {
+        final int offsetsLength = (size + 1) * Integer.BYTES;
+        final IntBuffer offsets = section.slice(0, offsetsLength).asIntBuffer();
+        final ByteBuffer bytes = section.slice(offsetsLength, offsets.get(size));
+        return new MessageDictionary(new String[size], offsets, bytes);
+    }
+
+    int size() {
+        return messages.length;
+    }
+
+    String get(int messageId) {
+        String message = messages[messageId];
+        if (message == null) {
+            final int start = offsets.get(messageId);
+            final byte[] encoded = new byte[offsets.get(messageId + 1) - start];
+            bytes.get(start, encoded);
+            message = new String(encoded, StandardCharsets.UTF_8);
+            messages[messageId] = message;
+        }
+        return message;
+    }
+}
@@ -0,0 +1,86 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.util.Map;
+
+/**
+ * Properties of the modules enclosing a check, from the innermost module outwards.
+ *
+ * <p>A chain is shared by all checks below the same module, so the properties of
+ * an enclosing module are read once and never copied into each check. As in the
+ * configuration mapping it replaces, a property of an outer module takes precedence over
+ * the same property of an inner module.
+ */
+final class PropertyChain {
+
+    /** The chain of a module without enclosing modules. */
+    static final PropertyChain EMPTY = new PropertyChain(null, Map.of());
+
+    private final PropertyChain parent;
+
+    private final Map<String, String> properties;
+
+    private PropertyChain(PropertyChain parent, Map<String, String> properties) {
+        this.parent = parent;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the chain of the modules nested in a module with the given properties.
+     *
+     * @param moduleProperties the properties of the enclosing module
+     * @return the chain
+     */
+    PropertyChain child(Map<String, String> moduleProperties) {
+        PropertyChain result = this;
+        if (!moduleProperties.isEmpty()) {
+            result = new PropertyChain(this, Map.copyOf(moduleProperties));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of a property of the outermost module that defines it.
+     *
+     * @param key the property name
+     * @return the value, or {@code null} if no module defines the property
+     */
+    String get(String key) {
+        String result = null;
+        if (parent != null) {
+            result = parent.get(key);
+        }
+        if (result == null) {
+            result = properties.get(key);
+        }
+        return result;
+    }
+
+    /**
+     * Puts all properties of the chain into a map, outer modules overriding inner ones.
+     *
+     * @param target the map to fill
+     */
+    void collect(Map<String, String> target) {
+        target.putAll(properties);
+        if (parent != null) {
+            parent.collect(target);
+        }
+    }
+}
@@ -18,9 +18,26 @@
 package org.checkstyle.autofix.parser;
 
 import java.nio.file.Path;
-import java.util.List;
 
 public interface ReportParser {
 
-    List<CheckstyleViolation> parse(Path reportPath);
+    /**
+     * Parses a report and adds its violations of supported checks to the builder.
+     *
+     * @param reportPath the path of the report
+     * @param violations the builder receiving the violations
+     */
+    void parse(Path reportPath, ViolationIndex.Builder violations);
+
+    /**
+     * Parses a report into a new index.
+     *
+     * @param reportPath the path of the report
+     * @return the violations of supported checks
+     */
+    default ViolationIndex parse(Path reportPath) {
+        final ViolationIndex.Builder violations = new ViolationIndex.Builder();
+        parse(reportPath, violations);
+        return violations.build();
+    }
 }
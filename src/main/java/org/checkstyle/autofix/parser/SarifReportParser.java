@@ -21,74 +21,274 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
 
 import org.checkstyle.autofix.CheckstyleCheck;
 
-import de.jcup.sarif_2_1_0.SarifSchema210ImportExportSupport;
-import de.jcup.sarif_2_1_0.model.PhysicalLocation;
-import de.jcup.sarif_2_1_0.model.Region;
-import de.jcup.sarif_2_1_0.model.Result;
-import de.jcup.sarif_2_1_0.model.Run;
-import de.jcup.sarif_2_1_0.model.SarifSchema210;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 
+/**
+ * Parses SARIF reports by streaming JSON tokens. Only {@code runs[].results[]} is walked,
+ * the fields needed for a violation are extracted and everything else is skipped,
+ * so memory use depends on the number of fixable violations, not on the report size.
+ */
 public class SarifReportParser implements ReportParser {
 
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     private static final String FILE_PREFIX = "file:";
 
-    private final SarifSchema210ImportExportSupport parser;
+    private static final String NOTE_LEVEL = "note";
 
-    public SarifReportParser() {
-        this.parser = new SarifSchema210ImportExportSupport();
-    }
+    private static final String NONE_LEVEL = "none";
+
+    private static final String RUNS = "runs";
+
+    private static final String RESULTS = "results";
+
+    private static final String RULE_ID = "ruleId";
+
+    private static final String LEVEL = "level";
+
+    private static final String MESSAGE = "message";
+
+    private static final String TEXT = "text";
+
+    private static final String LOCATIONS = "locations";
+
+    private static final String PHYSICAL_LOCATION = "physicalLocation";
+
+    private static final String ARTIFACT_LOCATION = "artifactLocation";
+
+    private static final String URI_FIELD = "uri";
+
+    private static final String REGION = "region";
+
+    private static final String START_LINE = "startLine";
+
+    private static final String START_COLUMN = "startColumn";
 
     @Override
-    public List<CheckstyleViolation> parse(Path reportPath) {
-        final SarifSchema210 report;
-        try {
-            report = parser.fromFile(reportPath);
+    public void parse(Path reportPath, ViolationIndex.Builder violations) {
+        try (JsonParser parser = JSON_FACTORY.createParser(reportPath.toFile())) {
+            final PathResolver pathResolver = new PathResolver();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String field = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && RUNS.equals(field)) {
+                        parseRuns(parser, pathResolver, violations);
+                    }
+                    else {
+                        parser.skipChildren();
+                    }
+                }
+            }
         }
         catch (IOException exception) {
             throw new IllegalArgumentException("Failed to parse report: " + reportPath, exception);
         }
-        final List<CheckstyleViolation> result = new ArrayList<>();
-        for (final Run run: report.getRuns()) {
-            if (run.getResults() != null) {
-                run.getResults().forEach(resultEntry -> {
-                    CheckstyleCheck.fromSource(resultEntry.getRuleId()).ifPresent(check -> {
-                        final CheckstyleViolation violation = createViolation(check, resultEntry);
-                        result.add(violation);
-                    });
+    }
+
+    private static void parseRuns(JsonParser parser, PathResolver pathResolver,
+                                  ViolationIndex.Builder violations) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && RESULTS.equals(field)) {
+                    parseResults(parser, pathResolver, violations);
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void parseResults(JsonParser parser, PathResolver pathResolver,
+                                     ViolationIndex.Builder violations) throws IOException {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            final ResultFields fields = parseResult(parser);
+            if (fields.ruleId != null && fields.uri != null) {
+                CheckstyleCheck.fromSource(fields.ruleId).ifPresent(check -> {
+                    violations.add(pathResolver.resolve(fields.uri), fields.line,
+                            fields.column, toSeverity(fields.level), check, fields.message);
                 });
             }
         }
-        return result;
     }
 
-    private CheckstyleViolation createViolation(CheckstyleCheck check, Result result) {
-        final String severity = result.getLevel().name();
-        final String message = result.getMessage().getText();
-        final PhysicalLocation location = result.getLocations().get(0).getPhysicalLocation();
-        final Path filePath = getFilePath(location);
-        final Region region = location.getRegion();
-        final int line = region.getStartLine();
-        final Optional<Integer> columnMaybe = Optional.ofNullable(region.getStartColumn());
-        return columnMaybe.map(column -> {
-            return new CheckstyleViolation(line, column, severity, check, message, filePath);
-        }).orElse(new CheckstyleViolation(line, severity, check, message, filePath));
+    private static ResultFields parseResult(JsonParser parser) throws IOException {
+        final ResultFields fields = new ResultFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            if (RULE_ID.equals(field)) {
+                fields.ruleId = parser.getValueAsString();
+            }
+            else if (LEVEL.equals(field)) {
+                fields.level = parser.getValueAsString();
+            }
+            else if (MESSAGE.equals(field) && token == JsonToken.START_OBJECT) {
+                fields.message = parseMessageText(parser);
+            }
+            else if (LOCATIONS.equals(field) && token == JsonToken.START_ARRAY) {
+                parseLocations(parser, fields);
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static String parseMessageText(JsonParser parser) throws IOException {
+        String text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            if (TEXT.equals(field)) {
+                text = parser.getValueAsString();
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+        return text;
     }
 
-    private Path getFilePath(PhysicalLocation location) {
-        final Path result;
-        final String uri = location.getArtifactLocation().getUri();
-        if (uri.startsWith(FILE_PREFIX)) {
-            result = Paths.get(URI.create(uri));
+    private static void parseLocations(JsonParser parser, ResultFields fields)
+            throws IOException {
+        boolean first = true;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && first
+                        && PHYSICAL_LOCATION.equals(field)) {
+                    parsePhysicalLocation(parser, fields);
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+            first = false;
+        }
+    }
+
+    private static void parsePhysicalLocation(JsonParser parser, ResultFields fields)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            final JsonToken token = parser.nextToken();
+            if (ARTIFACT_LOCATION.equals(field) && token == JsonToken.START_OBJECT) {
+                fields.uri = parseArtifactUri(parser);
+            }
+            else if (REGION.equals(field) && token == JsonToken.START_OBJECT) {
+                parseRegion(parser, fields);
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static String parseArtifactUri(JsonParser parser) throws IOException {
+        String uri = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            if (URI_FIELD.equals(field)) {
+                uri = parser.getValueAsString();
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+        return uri;
+    }
+
+    private static void parseRegion(JsonParser parser, ResultFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String field = parser.currentName();
+            parser.nextToken();
+            if (START_LINE.equals(field)) {
+                fields.line = parser.getValueAsInt();
+            }
+            else if (START_COLUMN.equals(field)) {
+                fields.column = parser.getValueAsInt();
+            }
+            else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Maps a SARIF level to a Checkstyle severity. SARIF uses {@code note} and
+     * {@code none} where Checkstyle uses {@code info} and {@code ignore}, and a result
+     * without a level is a warning.
+     *
+     * @param level the SARIF level, may be null
+     * @return the severity
+     */
+    private static SeverityLevel toSeverity(String level) {
+        final SeverityLevel severity;
+        if (level == null) {
+            severity = SeverityLevel.WARNING;
+        }
+        else if (NOTE_LEVEL.equals(level)) {
+            severity = SeverityLevel.INFO;
+        }
+        else if (NONE_LEVEL.equals(level)) {
+            severity = SeverityLevel.IGNORE;
         }
         else {
-            result = Path.of(uri);
+            severity = SeverityLevel.getInstance(level.toLowerCase(Locale.ROOT));
+        }
+        return severity;
+    }
+
+    /**
+     * Fields of a single SARIF result that are needed to create a violation.
+     */
+    private static final class ResultFields {
+
+        private String ruleId;
+
+        private String level;
+
+        private String message;
+
+        private String uri;
+
+        private int line = -1;
+
+        private int column = -1;
+    }
+
+    /**
+     * Converts artifact URIs to paths, reusing the last path because results
+     * of the same file are usually adjacent.
+     */
+    private static final class PathResolver {
+
+        private String lastUri;
+
+        private Path lastPath;
+
+        private Path resolve(String uri) {
+            if (!uri.equals(lastUri)) {
+                lastUri = uri;
+                if (uri.startsWith(FILE_PREFIX)) {
+                    lastPath = Paths.get(URI.create(uri));
+                }
+                else {
+                    lastPath = Path.of(uri);
+                }
+            }
+            return lastPath;
         }
-        return result;
     }
 }
@@ -0,0 +1,249 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * Violations of a report indexed by normalized source path, so recipes can look up
+ * a file and a position in constant time instead of scanning every violation.
+ * Messages are dictionary encoded once for the whole index.
+ *
+ * <p>Files are materialized on first lookup, which lets an index mapped from
+ * a {@link ViolationIndexCache} touch only the files that recipes ask about. Concurrent
+ * lookups of the same file always return the same instance.
+ */
+public final class ViolationIndex {
+
+    private final Map<Path, Integer> fileIds;
+
+    private final AtomicReferenceArray<FileViolations> files;
+
+    private final IntFunction<FileViolations> loader;
+
+    private final MessageDictionary messages;
+
+    private final Set<CheckstyleCheck> checks;
+
+    /**
+     * Creates an index.
+     *
+     * @param fileIds ids of the files by normalized path
+     * @param loader creates the violations of a file by id
+     * @param messages the message dictionary
+     * @param checks the checks reported in any file
+     */
+    ViolationIndex(Map<Path, Integer> fileIds, IntFunction<FileViolations> loader,
+                   MessageDictionary messages, Set<CheckstyleCheck> checks) {
+        this.fileIds = fileIds;
+        this.files = new AtomicReferenceArray<>(fileIds.size());
+        this.loader = loader;
+        this.messages = messages;
+        this.checks = Collections.unmodifiableSet(checks);
+    }
+
+    /**
+     * Returns the violations of a source file. The path may be relative to the working
+     * directory, as OpenRewrite source paths are.
+     *
+     * @param sourcePath the path of the source file
+     * @return the file violations, empty if the report has none for the file
+     */
+    public FileViolations getFileViolations(Path sourcePath) {
+        final Integer fileId = fileIds.get(normalize(sourcePath));
+        FileViolations result = FileViolations.EMPTY;
+        if (fileId != null) {
+            result = getFile(fileId);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the violations of every reported file in report order.
+     *
+     * @return the file violations
+     */
+    public List<FileViolations> getFiles() {
+        final List<FileViolations> result = new ArrayList<>(files.length());
+        for (int fileId = 0; fileId < files.length(); fileId++) {
+            result.add(getFile(fileId));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the checks that have at least one violation in the report.
+     *
+     * @return the reported checks
+     */
+    public Set<CheckstyleCheck> getChecks() {
+        return checks;
+    }
+
+    /**
+     * Returns an index over the same columns in which no violation is consumed yet, so
+     * an index kept in memory can serve several fixing runs.
+     *
+     * @return the copy
+     */
+    public ViolationIndex copy() {
+        return new ViolationIndex(fileIds, fileId -> getFile(fileId).copy(), messages, checks);
+    }
+
+    int getFileCount() {
+        return files.length();
+    }
+
+    FileViolations getFile(int fileId) {
+        FileViolations result = files.get(fileId);
+        if (result == null) {
+            files.compareAndSet(fileId, null, loader.apply(fileId));
+            result = files.get(fileId);
+        }
+        return result;
+    }
+
+    MessageDictionary getMessages() {
+        return messages;
+    }
+
+    static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Collects violations as a report is parsed and builds the columnar index.
+     */
+    public static final class Builder {
+
+        private final Map<Path, FileViolations.Builder> files = new LinkedHashMap<>();
+
+        private final Map<String, Integer> messageIds = new HashMap<>();
+
+        private final List<String> messages = new ArrayList<>();
+
+        private Path lastPath;
+
+        private FileViolations.Builder lastFile;
+
+        /**
+         * Adds a violation of a supported check.
+         *
+         * @param filePath the reported path of the file
+         * @param line 1-based line
+         * @param column 1-based column
+         * @param severity the severity of the violation
+         * @param check the check that reported the violation
+         * @param message the violation message
+         * @return this builder
+         */
+        public Builder add(Path filePath, int line, int column, SeverityLevel severity,
+                           CheckstyleCheck check, String message) {
+            if (filePath != lastPath) {
+                lastPath = filePath;
+                lastFile = files.computeIfAbsent(normalize(filePath),
+                        key -> new FileViolations.Builder(filePath));
+            }
+            lastFile.add(line, column, severity, check,
+                    getMessageId(Objects.requireNonNullElse(message, "")));
+            return this;
+        }
+
+        /**
+         * Adds all violations collected by another builder, for example from another chunk
+         * of the same report or from another report.
+         *
+         * @param other the builder to merge into this one
+         * @return this builder
+         */
+        public Builder merge(Builder other) {
+            final int[] remappedIds = new int[other.messages.size()];
+            for (int messageId = 0; messageId < remappedIds.length; messageId++) {
+                remappedIds[messageId] = getMessageId(other.messages.get(messageId));
+            }
+            for (Map.Entry<Path, FileViolations.Builder> entry : other.files.entrySet()) {
+                files.computeIfAbsent(entry.getKey(), key -> entry.getValue().copyEmpty())
+                        .addAll(entry.getValue(), remappedIds);
+            }
+            return this;
+        }
+
+        /**
+         * Adds all violations of a built index, for example one loaded from
+         * another report.
+         *
+         * @param index the index to copy
+         * @return this builder
+         */
+        public Builder addAll(ViolationIndex index) {
+            for (FileViolations fileViolations : index.getFiles()) {
+                for (int row = 0; row < fileViolations.size(); row++) {
+                    add(fileViolations.getFilePath(), fileViolations.getLine(row),
+                            fileViolations.getColumn(row), fileViolations.getSeverity(row),
+                            fileViolations.getCheck(row), fileViolations.getMessage(row));
+                }
+            }
+            return this;
+        }
+
+        private int getMessageId(String message) {
+            return messageIds.computeIfAbsent(message, key -> {
+                messages.add(key);
+                return messages.size() - 1;
+            });
+        }
+
+        /**
+         * Builds the index of all added violations.
+         *
+         * @return the index
+         */
+        public ViolationIndex build() {
+            final MessageDictionary dictionary = MessageDictionary.of(messages);
+            final Map<Path, Integer> fileIds = new HashMap<>();
+            final List<FileViolations> built = new ArrayList<>(files.size());
+            final Set<CheckstyleCheck> checks = EnumSet.noneOf(CheckstyleCheck.class);
+            for (Map.Entry<Path, FileViolations.Builder> entry : files.entrySet()) {
+                final FileViolations fileViolations = entry.getValue().build(dictionary);
+                fileIds.put(entry.getKey(), built.size());
+                built.add(fileViolations);
+                for (CheckstyleCheck check : CheckstyleCheck.values()) {
+                    if (fileViolations.hasViolations(check)) {
+                        checks.add(check);
+                    }
+                }
+            }
+            return new ViolationIndex(fileIds, built::get, dictionary, checks);
+        }
+    }
+}
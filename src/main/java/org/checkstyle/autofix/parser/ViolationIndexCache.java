@@ -0,0 +1,341 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+
+/**
+ * Binary copy of a {@link ViolationIndex} stored next to the report it was parsed from.
+ *
+ * <p>The cache is keyed by the size, modification time and a CRC32C checksum of the report.
+ * When the key matches, the cache file is memory mapped and only its file table is read;
+ * the columns of a file are wrapped when a recipe first asks about that file and messages
+ * are decoded on demand. Otherwise the report is parsed and the cache is rewritten.
+ *
+ * <p>Layout: a fixed header, the message dictionary, the file table with the reported path,
+ * check mask, row count, slot count and block position of every file, and then the column
+ * blocks of {@link FileViolations}. All numbers are big-endian.
+ */
+public final class ViolationIndexCache {
+
+    private static final Logger LOG = Logger.getLogger(ViolationIndexCache.class.getName());
+
+    private static final String SUFFIX = ".autofix-index";
+
+    private static final int MAGIC = 0x43534958;
+
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 48;
+
+    private static final int FILE_ENTRY_SIZE = 28;
+
+    private static final int SIZE_OFFSET = 8;
+
+    private static final int MODIFIED_OFFSET = 16;
+
+    private static final int HASH_OFFSET = 24;
+
+    private static final int CHECK_COUNT_OFFSET = 32;
+
+    private static final int MESSAGE_COUNT_OFFSET = 36;
+
+    private static final int FILE_COUNT_OFFSET = 40;
+
+    private static final int MESSAGES_LENGTH_OFFSET = 44;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private ViolationIndexCache() {
+    }
+
+    /**
+     * Returns the violations of a report, mapped from the cache when it matches the report
+     * and parsed otherwise.
+     *
+     * @param reportPath the path of the report
+     * @param parser the parser used when the cache is missing or stale
+     * @return the violation index
+     */
+    public static ViolationIndex load(Path reportPath, ReportParser parser) {
+        final Path cachePath = getCachePath(reportPath);
+        final ReportKey key = ReportKey.of(reportPath);
+        return read(cachePath, key).orElseGet(() -> {
+            final ViolationIndex index = parser.parse(reportPath);
+            write(cachePath, key, index);
+            return index;
+        });
+    }
+
+    /**
+     * Returns the path of the cache file of a report.
+     *
+     * @param reportPath the path of the report
+     * @return the cache path
+     */
+    public static Path getCachePath(Path reportPath) {
+        return reportPath.resolveSibling(reportPath.getFileName() + SUFFIX);
+    }
+
+    private static Optional<ViolationIndex> read(Path cachePath, ReportKey key) {
+        Optional<ViolationIndex> result = Optional.empty();
+        if (Files.isRegularFile(cachePath)) {
+            try (FileChannel channel = FileChannel.open(cachePath, StandardOpenOption.READ)) {
+                if (channel.size() >= HEADER_SIZE && channel.size() <= Integer.MAX_VALUE) {
+                    final ByteBuffer buffer =
+                            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    if (key.matches(buffer)) {
+                        result = Optional.of(readIndex(buffer));
+                    }
+                }
+            }
+            catch (IOException | IndexOutOfBoundsException | BufferUnderflowException exception) {
+                LOG.log(Level.FINE, "Ignoring unreadable violation index " + cachePath,
+                        exception);
+            }
+        }
+        return result;
+    }
+
+    private static ViolationIndex readIndex(ByteBuffer buffer) {
+        final int messageCount = buffer.getInt(MESSAGE_COUNT_OFFSET);
+        final int fileCount = buffer.getInt(FILE_COUNT_OFFSET);
+        final int messagesLength = buffer.getInt(MESSAGES_LENGTH_OFFSET);
+        final MessageDictionary messages = MessageDictionary.map(
+                buffer.slice(HEADER_SIZE, messagesLength), messageCount);
+
+        final Map<Path, Integer> fileIds = new HashMap<>();
+        final Path[] paths = new Path[fileCount];
+        final int[] rows = new int[fileCount];
+        final int[] slotCounts = new int[fileCount];
+        final int[] blockOffsets = new int[fileCount];
+        final int[] blockLengths = new int[fileCount];
+        final Set<CheckstyleCheck> checks = EnumSet.noneOf(CheckstyleCheck.class);
+        final CheckstyleCheck[] allChecks = CheckstyleCheck.values();
+        int position = HEADER_SIZE + align(messagesLength);
+        for (int fileId = 0; fileId < fileCount; fileId++) {
+            final byte[] path = new byte[buffer.getInt(position)];
+            position += Integer.BYTES;
+            buffer.get(position, path);
+            position += path.length;
+            paths[fileId] = Path.of(new String(path, StandardCharsets.UTF_8));
+            final int checkMask = buffer.getInt(position);
+            position += Integer.BYTES;
+            rows[fileId] = buffer.getInt(position);
+            position += Integer.BYTES;
+            slotCounts[fileId] = buffer.getInt(position);
+            position += Integer.BYTES;
+            blockOffsets[fileId] = (int) buffer.getLong(position);
+            position += Long.BYTES;
+            blockLengths[fileId] = buffer.getInt(position);
+            position += Integer.BYTES;
+            fileIds.put(ViolationIndex.normalize(paths[fileId]), fileId);
+            for (CheckstyleCheck check : allChecks) {
+                if ((checkMask & 1 << check.ordinal()) != 0) {
+                    checks.add(check);
+                }
+            }
+        }
+        return new ViolationIndex(fileIds, fileId -> {
+            return new FileViolations(paths[fileId],
+                    buffer.slice(blockOffsets[fileId], blockLengths[fileId]),
+                    rows[fileId], slotCounts[fileId], messages);
+        }, messages, checks);
+    }
+
+    private static void write(Path cachePath, ReportKey key, ViolationIndex index) {
+        Path tempPath = null;
+        try {
+            tempPath = Files.createTempFile(cachePath.toAbsolutePath().getParent(),
+                    cachePath.getFileName().toString(), null);
+            try (DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                writeIndex(output, key, index);
+            }
+            Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException exception) {
+            LOG.log(Level.FINE, "Unable to write violation index " + cachePath, exception);
+            deleteQuietly(tempPath);
+        }
+    }
+
+    private static void writeIndex(DataOutputStream output, ReportKey key,
+                                   ViolationIndex index) throws IOException {
+        final MessageDictionary messages = index.getMessages();
+        final List<byte[]> encodedMessages = new ArrayList<>(messages.size());
+        int messageBytes = 0;
+        for (int messageId = 0; messageId < messages.size(); messageId++) {
+            final byte[] encoded = messages.get(messageId).getBytes(StandardCharsets.UTF_8);
+            encodedMessages.add(encoded);
+            messageBytes += encoded.length;
+        }
+        final int messagesLength = (messages.size() + 1) * Integer.BYTES + messageBytes;
+
+        final List<FileViolations> files = index.getFiles();
+        final List<byte[]> encodedPaths = new ArrayList<>(files.size());
+        int tableLength = 0;
+        for (FileViolations file : files) {
+            final byte[] encoded = file.getFilePath().toString().getBytes(StandardCharsets.UTF_8);
+            encodedPaths.add(encoded);
+            tableLength += FILE_ENTRY_SIZE + encoded.length;
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(key.size);
+        output.writeLong(key.modified);
+        output.writeLong(key.hash);
+        output.writeInt(CheckstyleCheck.values().length);
+        output.writeInt(messages.size());
+        output.writeInt(files.size());
+        output.writeInt(messagesLength);
+
+        int offset = 0;
+        for (byte[] encoded : encodedMessages) {
+            output.writeInt(offset);
+            offset += encoded.length;
+        }
+        output.writeInt(offset);
+        for (byte[] encoded : encodedMessages) {
+            output.write(encoded);
+        }
+        writePadding(output, messagesLength);
+
+        long blockOffset = align(HEADER_SIZE + align(messagesLength) + tableLength);
+        for (int fileId = 0; fileId < files.size(); fileId++) {
+            final FileViolations file = files.get(fileId);
+            final byte[] path = encodedPaths.get(fileId);
+            output.writeInt(path.length);
+            output.write(path);
+            output.writeInt(file.getCheckMask());
+            output.writeInt(file.size());
+            output.writeInt(file.getSlotCount());
+            output.writeLong(blockOffset);
+            output.writeInt(file.getBlock().remaining());
+            blockOffset += align(file.getBlock().remaining());
+        }
+        writePadding(output, tableLength);
+
+        for (FileViolations file : files) {
+            final ByteBuffer block = file.getBlock();
+            final byte[] bytes = new byte[block.remaining()];
+            block.get(bytes);
+            output.write(bytes);
+            writePadding(output, bytes.length);
+        }
+    }
+
+    private static void writePadding(DataOutputStream output, int length) throws IOException {
+        for (int index = length; index < align(length); index++) {
+            output.writeByte(0);
+        }
+    }
+
+    private static int align(int length) {
+        return (length + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            }
+            catch (IOException exception) {
+                LOG.log(Level.FINE, "Unable to delete " + path, exception);
+            }
+        }
+    }
+
+    /**
+     * Identity of a report: its size, modification time and a CRC32C checksum of its whole
+     * content, so that a report rewritten with the same size and modification time is
+     * detected wherever it changed.
+     */
+    private static final class ReportKey {
+
+        private final long size;
+
+        private final long modified;
+
+        private final long hash;
+
+        private ReportKey(long size, long modified, long hash) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+        }
+
+        private static ReportKey of(Path reportPath) {
+            try (FileChannel channel = FileChannel.open(reportPath, StandardOpenOption.READ)) {
+                final BasicFileAttributes attributes =
+                        Files.readAttributes(reportPath, BasicFileAttributes.class);
+                return new ReportKey(channel.size(), attributes.lastModifiedTime().toMillis(),
+                        checksum(channel));
+            }
+            catch (IOException exception) {
+                throw new IllegalArgumentException("Failed to read report: " + reportPath,
+                        exception);
+            }
+        }
+
+        private static long checksum(FileChannel channel) throws IOException {
+            final CRC32C checksum = new CRC32C();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+            return checksum.getValue();
+        }
+
+        private boolean matches(ByteBuffer buffer) {
+            return buffer.getInt(0) == MAGIC
+                    && buffer.getInt(Integer.BYTES) == VERSION
+                    && buffer.getLong(SIZE_OFFSET) == size
+                    && buffer.getLong(MODIFIED_OFFSET) == modified
+                    && buffer.getLong(HASH_OFFSET) == hash
+                    && buffer.getInt(CHECK_COUNT_OFFSET) == CheckstyleCheck.values().length;
+        }
+    }
+}
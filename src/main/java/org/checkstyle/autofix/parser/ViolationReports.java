@@ -0,0 +1,213 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Loads the violations of one or more reports into a single index.
+ *
+ * <p>Reports are given as a comma separated list of paths and glob patterns, for example
+ * {@code target/checkstyle-result.xml,build/reports/*.sarif}. Commas inside the braces
+ * of a glob alternation such as {@code {first,second}/target/checkstyle-result.xml} do not
+ * separate reports. XML and SARIF reports can be mixed. Reports are loaded concurrently, each through its
+ * {@link ViolationIndexCache}, and merged; a violation reported by more than one report
+ * is kept once.
+ */
+public final class ViolationReports {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char GROUP_START = '{';
+
+    private static final char GROUP_END = '}';
+
+    private static final String GLOB_CHARACTERS = "*?[{";
+
+    private static final String GLOB_SYNTAX = "glob:";
+
+    private ViolationReports() {
+    }
+
+    /**
+     * Loads and merges the violations of all reports matching the given paths.
+     *
+     * @param reportPaths comma separated report paths or glob patterns
+     * @return the merged violation index
+     * @throws IllegalArgumentException if no report matches or a report cannot be parsed
+     */
+    public static ViolationIndex load(String reportPaths) {
+        final List<Path> reports = resolve(reportPaths);
+        if (reports.isEmpty()) {
+            throw new IllegalArgumentException("No violation report matches: " + reportPaths);
+        }
+        final ViolationIndex result;
+        if (reports.size() == 1) {
+            result = loadReport(reports.get(0));
+        }
+        else {
+            final ViolationIndex.Builder merged = new ViolationIndex.Builder();
+            reports.parallelStream()
+                    .map(ViolationReports::loadReport)
+                    .collect(Collectors.toList())
+                    .forEach(merged::addAll);
+            result = merged.build();
+        }
+        return result;
+    }
+
+    /**
+     * Resolves comma separated report paths and glob patterns to report files.
+     * Plain paths are returned as given, glob patterns are expanded to the sorted
+     * list of matching regular files.
+     *
+     * @param reportPaths comma separated report paths or glob patterns
+     * @return the report files
+     */
+    public static List<Path> resolve(String reportPaths) {
+        final List<Path> result = new ArrayList<>();
+        for (String entry : split(reportPaths)) {
+            final String reportPath = entry.trim();
+            if (isGlob(reportPath)) {
+                result.addAll(expandGlob(reportPath));
+            }
+            else if (!reportPath.isEmpty()) {
+                result.add(Path.of(reportPath));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the parser for a report, chosen by file extension.
+     *
+     * @param reportPath the report
+     * @return the report parser
+     * @throws IllegalArgumentException if the report format is not supported
+     */
+    static ReportParser createReportParser(Path reportPath) {
+        final String fileName = reportPath.getFileName().toString().toLowerCase(Locale.ROOT);
+        final ReportParser result;
+        if (fileName.endsWith(".xml")) {
+            result = new XmlReportParser();
+        }
+        else if (fileName.endsWith(".sarif") || fileName.endsWith(".sarif.json")) {
+            result = new SarifReportParser();
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported report format: " + reportPath);
+        }
+        return result;
+    }
+
+    private static ViolationIndex loadReport(Path reportPath) {
+        return ViolationIndexCache.load(reportPath, createReportParser(reportPath));
+    }
+
+    /**
+     * Splits a report list at the commas that are not inside the braces of a glob.
+     *
+     * @param reportPaths comma separated report paths or glob patterns
+     * @return the entries
+     */
+    private static List<String> split(String reportPaths) {
+        final List<String> result = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int index = 0; index < reportPaths.length(); index++) {
+            final char character = reportPaths.charAt(index);
+            if (character == GROUP_START) {
+                depth++;
+            }
+            else if (character == GROUP_END && depth > 0) {
+                depth--;
+            }
+            else if (character == SEPARATOR && depth == 0) {
+                result.add(reportPaths.substring(start, index));
+                start = index + 1;
+            }
+        }
+        result.add(reportPaths.substring(start));
+        return result;
+    }
+
+    private static boolean isGlob(String reportPath) {
+        boolean result = false;
+        for (int index = 0; index < reportPath.length() && !result; index++) {
+            result = GLOB_CHARACTERS.indexOf(reportPath.charAt(index)) >= 0;
+        }
+        return result;
+    }
+
+    /**
+     * Expands a glob pattern. The directories before the first name containing a glob
+     * character are walked and the rest of the pattern is matched against paths relative
+     * to them.
+     *
+     * @param pattern the glob pattern
+     * @return sorted matching regular files
+     */
+    private static List<Path> expandGlob(String pattern) {
+        final Path patternPath = Path.of(pattern.replace('\\', '/'));
+        Path base = patternPath.getRoot();
+        int firstGlob = 0;
+        while (!isGlob(patternPath.getName(firstGlob).toString())) {
+            final Path name = patternPath.getName(firstGlob);
+            if (base == null) {
+                base = name;
+            }
+            else {
+                base = base.resolve(name);
+            }
+            firstGlob++;
+        }
+        if (base == null) {
+            base = Path.of(".");
+        }
+        final Path walkRoot = base;
+        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(GLOB_SYNTAX
+                + patternPath.subpath(firstGlob, patternPath.getNameCount()));
+        final List<Path> result;
+        if (Files.isDirectory(walkRoot)) {
+            try (Stream<Path> paths = Files.walk(walkRoot)) {
+                result = paths
+                        .filter(path -> matcher.matches(walkRoot.relativize(path)))
+                        .filter(Files::isRegularFile)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+            catch (IOException exception) {
+                throw new IllegalArgumentException("Failed to resolve reports: " + pattern,
+                        exception);
+            }
+        }
+        else {
+            result = List.of();
+        }
+        return result;
+    }
+}
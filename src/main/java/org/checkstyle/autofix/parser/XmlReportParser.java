@@ -17,25 +17,47 @@
 
 package org.checkstyle.autofix.parser;
 
-import java.io.FileInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import org.checkstyle.autofix.CheckstyleCheck;
 
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+/**
+ * Parses Checkstyle XML reports with a cursor-based {@link XMLStreamReader}.
+ * Attributes are read by index, the file path is created once per {@code file} element
+ * and errors of unsupported checks are skipped before any of their attributes are read.
+ *
+ * <p>Reports larger than 16 MiB are split at {@code <file }
+ * boundaries into chunks that are memory mapped and parsed on the common fork-join pool.
+ * Every chunk is preceded by the prologue of the report, which holds the XML declaration
+ * and the root start tag, so that it is decoded in the encoding of the report. Chunks are
+ * only used for encodings that write markup as ASCII; other reports are parsed
+ * sequentially. The chunk results are merged in report order. {@link XMLInputFactory} is
+ * not guaranteed to be thread-safe, so every parse creates its own factory.
+ */
 public class XmlReportParser implements ReportParser {
 
     private static final String FILE_TAG = "file";
@@ -54,101 +76,336 @@ public class XmlReportParser implements ReportParser {
 
     private static final String SOURCE_ATTR = "source";
 
-    @Override
-    public List<CheckstyleViolation> parse(Path xmlPath) {
+    private static final long PARALLEL_THRESHOLD = 16L * 1024 * 1024;
 
-        final List<CheckstyleViolation> result = new ArrayList<>();
+    private static final long MIN_CHUNK_SIZE = 1024 * 1024;
 
-        try (InputStream inputStream = new FileInputStream(xmlPath.toFile())) {
+    private static final int CHUNKS_PER_THREAD = 4;
 
-            final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-            final XMLEventReader reader = inputFactory.createXMLEventReader(inputStream);
+    private static final int SEARCH_WINDOW = 64 * 1024;
 
-            try {
-                String filename = null;
+    private static final int BYTE_MASK = 0xFF;
 
-                while (reader.hasNext()) {
-                    final XMLEvent event = reader.nextEvent();
-                    if (event.isStartElement()) {
-                        final StartElement startElement = event.asStartElement();
-                        final String startElementName = startElement.getName().getLocalPart();
+    private static final String FILE_TEXT = "<file ";
 
-                        if (FILE_TAG.equals(startElementName)) {
-                            filename = parseFileTag(startElement);
-                        }
-                        else if (ERROR_TAG.equals(startElementName)) {
-                            Objects.requireNonNull(filename, "File name can not be null");
-                            parseErrorTag(startElement, filename).ifPresent(result::add);
-                        }
-                    }
-                }
+    private static final String ROOT_END_TEXT = "</checkstyle>";
+
+    private static final byte[] FILE_START = FILE_TEXT.getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] ROOT_END = ROOT_END_TEXT.getBytes(StandardCharsets.US_ASCII);
+
+    private final long parallelThreshold;
+
+    public XmlReportParser() {
+        this(PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Creates a parser that parses reports larger than the threshold in parallel.
+     *
+     * @param parallelThreshold the report size in bytes above which chunks are parsed
+     *                          in parallel
+     */
+    XmlReportParser(long parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public void parse(Path xmlPath, ViolationIndex.Builder violations) {
+        try {
+            if (Files.size(xmlPath) > parallelThreshold && hasAsciiMarkup(xmlPath)) {
+                parseInParallel(xmlPath, violations);
             }
-            finally {
-                if (reader != null) {
-                    reader.close();
+            else {
+                try (InputStream inputStream = Files.newInputStream(xmlPath)) {
+                    parseStream(inputStream, violations);
                 }
             }
-
         }
         catch (IOException | XMLStreamException exception) {
             throw new IllegalArgumentException("Failed to parse checkstyle XML report from: "
                     + xmlPath, exception);
         }
+    }
+
+    private static void parseStream(InputStream inputStream, ViolationIndex.Builder violations)
+            throws XMLStreamException {
+        final XMLStreamReader reader = XMLInputFactory.newInstance()
+                .createXMLStreamReader(inputStream);
+
+        try {
+            Path filePath = null;
+
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    final String elementName = reader.getLocalName();
+
+                    if (FILE_TAG.equals(elementName)) {
+                        filePath = parseFileTag(reader);
+                    }
+                    else if (ERROR_TAG.equals(elementName)) {
+                        Objects.requireNonNull(filePath, "File name can not be null");
+                        parseErrorTag(reader, filePath, violations);
+                    }
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Checks whether the report is in an encoding that writes markup as ASCII, such as
+     * UTF-8 or ISO-8859-1, so that chunk boundaries can be found by searching its bytes.
+     *
+     * @param xmlPath the report
+     * @return whether the report can be split into chunks
+     * @throws IOException if the report cannot be read
+     * @throws XMLStreamException if the XML declaration of the report is malformed
+     */
+    private static boolean hasAsciiMarkup(Path xmlPath) throws IOException, XMLStreamException {
+        final String encoding;
+        try (InputStream inputStream = Files.newInputStream(xmlPath)) {
+            final XMLStreamReader reader = XMLInputFactory.newInstance()
+                    .createXMLStreamReader(inputStream);
+            encoding = reader.getEncoding();
+            reader.close();
+        }
+        boolean result = encoding == null;
+        if (!result && Charset.isSupported(encoding)) {
+            final Charset charset = Charset.forName(encoding);
+            result = Arrays.equals(FILE_START, FILE_TEXT.getBytes(charset))
+                    && Arrays.equals(ROOT_END, ROOT_END_TEXT.getBytes(charset));
+        }
+        return result;
+    }
+
+    private static void parseInParallel(Path xmlPath, ViolationIndex.Builder violations)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(xmlPath, StandardOpenOption.READ)) {
+            final List<Long> boundaries = findChunkBoundaries(channel);
+            final List<ByteBuffer> chunks = new ArrayList<>();
+            for (int index = 1; index < boundaries.size(); index++) {
+                final long start = boundaries.get(index - 1);
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        boundaries.get(index) - start));
+            }
+            final ByteBuffer prologue;
+            if (boundaries.isEmpty()) {
+                prologue = ByteBuffer.allocate(0);
+            }
+            else {
+                prologue = channel.map(FileChannel.MapMode.READ_ONLY, 0, boundaries.get(0));
+            }
+            chunks.parallelStream()
+                    .map(chunk -> parseChunk(prologue.duplicate(), chunk))
+                    .collect(Collectors.toList())
+                    .forEach(violations::merge);
+        }
+    }
+
+    /**
+     * Splits the report into chunks of whole {@code file} elements. The first boundary is
+     * the first {@code <file }, the last one is the closing root tag and the boundaries in
+     * between are the first {@code <file } after evenly spaced offsets.
+     *
+     * @param channel the report
+     * @return ascending chunk boundaries
+     * @throws IOException if the report cannot be read
+     */
+    private static List<Long> findChunkBoundaries(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long end = findLast(channel, ROOT_END);
+        final List<Long> boundaries = new ArrayList<>();
+        final long first = findNext(channel, 0, end);
+        if (first < end) {
+            final int chunkCount = (int) Math.max(1, Math.min(
+                    (long) ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD,
+                    size / MIN_CHUNK_SIZE));
+            boundaries.add(first);
+            for (int chunk = 1; chunk < chunkCount; chunk++) {
+                final long boundary = findNext(channel,
+                        Math.max(first + 1, size / chunkCount * chunk), end);
+                if (boundary > boundaries.get(boundaries.size() - 1)) {
+                    boundaries.add(boundary);
+                }
+            }
+            if (end > boundaries.get(boundaries.size() - 1)) {
+                boundaries.add(end);
+            }
+        }
+        return boundaries;
+    }
 
+    private static long findNext(FileChannel channel, long from, long end) throws IOException {
+        long result = end;
+        long windowStart = from;
+        while (windowStart < end && result == end) {
+            final int length = (int) Math.min(SEARCH_WINDOW, end - windowStart);
+            final ByteBuffer window = readWindow(channel, windowStart, length);
+            final int found = indexOf(window, FILE_START, 0, window.position());
+            if (found >= 0) {
+                result = windowStart + found;
+            }
+            windowStart += Math.max(1, length - FILE_START.length + 1);
+        }
         return result;
     }
 
-    private String parseFileTag(StartElement startElement) {
-        String fileName = null;
-        final Iterator<Attribute> attributes = startElement.getAttributes();
-        while (attributes.hasNext()) {
-            final Attribute attribute = attributes.next();
-            if (FILENAME_ATTR.equals(attribute.getName().getLocalPart())) {
-                fileName = attribute.getValue();
-                break;
+    private static long findLast(FileChannel channel, byte[] pattern) throws IOException {
+        final long size = channel.size();
+        final int length = (int) Math.min(SEARCH_WINDOW, size);
+        final ByteBuffer window = readWindow(channel, size - length, length);
+        int found = -1;
+        int from = 0;
+        int next = indexOf(window, pattern, from, window.position());
+        while (next >= 0) {
+            found = next;
+            from = next + 1;
+            next = indexOf(window, pattern, from, window.position());
+        }
+        if (found < 0) {
+            throw new IOException("Closing checkstyle element not found");
+        }
+        return size - length + found;
+    }
+
+    private static ByteBuffer readWindow(FileChannel channel, long position, int length)
+            throws IOException {
+        final ByteBuffer window = ByteBuffer.allocate(length);
+        int read = 0;
+        while (window.hasRemaining() && read >= 0) {
+            read = channel.read(window, position + window.position());
+        }
+        return window;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte[] pattern, int from, int limit) {
+        int result = -1;
+        for (int index = from; index <= limit - pattern.length && result < 0; index++) {
+            int matched = 0;
+            while (matched < pattern.length
+                    && buffer.get(index + matched) == pattern[matched]) {
+                matched++;
             }
+            if (matched == pattern.length) {
+                result = index;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a chunk of {@code file} elements between the prologue of the report, which
+     * ends with the root start tag, and the closing root tag.
+     *
+     * @param prologue the report up to its first {@code file} element
+     * @param chunk the chunk
+     * @return the violations of the chunk
+     * @throws IllegalArgumentException if the chunk cannot be parsed
+     */
+    private static ViolationIndex.Builder parseChunk(ByteBuffer prologue, ByteBuffer chunk) {
+        final ViolationIndex.Builder violations = new ViolationIndex.Builder();
+        final List<InputStream> parts = List.of(new ByteBufferInputStream(prologue),
+                new ByteBufferInputStream(chunk), new ByteArrayInputStream(ROOT_END));
+        try (InputStream inputStream =
+                     new SequenceInputStream(Collections.enumeration(parts))) {
+            parseStream(inputStream, violations);
         }
-        return fileName;
+        catch (IOException | XMLStreamException exception) {
+            throw new IllegalArgumentException("Failed to parse checkstyle XML report chunk",
+                    exception);
+        }
+        return violations;
     }
 
-    private Optional<CheckstyleViolation> parseErrorTag(StartElement startElement,
-                                                               String filename) {
+    private static Path parseFileTag(XMLStreamReader reader) {
+        final String fileName = getAttribute(reader, FILENAME_ATTR);
+        Path result = null;
+        if (fileName != null) {
+            result = Path.of(fileName);
+        }
+        return result;
+    }
+
+    private static void parseErrorTag(XMLStreamReader reader, Path filePath,
+                                      ViolationIndex.Builder violations) {
+        final String sourceName = getAttribute(reader, SOURCE_ATTR);
+        if (sourceName != null) {
+            CheckstyleCheck.fromSource(sourceName)
+                    .ifPresent(source -> addViolation(reader, source, filePath, violations));
+        }
+    }
+
+    private static void addViolation(XMLStreamReader reader, CheckstyleCheck source,
+                                     Path filePath, ViolationIndex.Builder violations) {
         int line = -1;
         int column = -1;
         String message = null;
-        String severity = null;
-        CheckstyleViolation violation = null;
-        Optional<CheckstyleCheck> source = Optional.empty();
-
-        final Iterator<Attribute> attributes = startElement.getAttributes();
-        while (attributes.hasNext()) {
-            final Attribute attribute = attributes.next();
-            final String attrName = attribute.getName().getLocalPart();
-            switch (attrName) {
+        SeverityLevel severity = SeverityLevel.ERROR;
+
+        final int attributeCount = reader.getAttributeCount();
+        for (int index = 0; index < attributeCount; index++) {
+            switch (reader.getAttributeLocalName(index)) {
                 case LINE_ATTR:
-                    line = Integer.parseInt(attribute.getValue());
+                    line = Integer.parseInt(reader.getAttributeValue(index));
                     break;
                 case COLUMN_ATTR:
-                    column = Integer.parseInt(attribute.getValue());
+                    column = Integer.parseInt(reader.getAttributeValue(index));
                     break;
                 case SEVERITY_ATTR:
-                    severity = attribute.getValue();
+                    severity = SeverityLevel.getInstance(reader.getAttributeValue(index));
                     break;
                 case MESSAGE_ATTR:
-                    message = attribute.getValue();
-                    break;
-                case SOURCE_ATTR:
-                    source = CheckstyleCheck.fromSource(attribute.getValue());
+                    message = reader.getAttributeValue(index);
                     break;
                 default:
                     break;
             }
         }
-        if (source.isPresent()) {
-            violation = new CheckstyleViolation(line, column, severity,
-                    source.get(), message, Path.of(filename));
+        violations.add(filePath, line, column, severity, source, message);
+    }
+
+    private static String getAttribute(XMLStreamReader reader, String name) {
+        String result = null;
+        final int attributeCount = reader.getAttributeCount();
+        for (int index = 0; index < attributeCount && result == null; index++) {
+            if (name.equals(reader.getAttributeLocalName(index))) {
+                result = reader.getAttributeValue(index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Input stream over the remaining bytes of a buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
         }
-        return Optional.ofNullable(violation);
 
+        @Override
+        public int read() {
+            int result = -1;
+            if (buffer.hasRemaining()) {
+                result = buffer.get() & BYTE_MASK;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            int result = -1;
+            if (buffer.hasRemaining()) {
+                result = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, result);
+            }
+            return result;
+        }
     }
 }
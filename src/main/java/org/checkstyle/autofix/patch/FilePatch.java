@@ -0,0 +1,311 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+
+/**
+ * Edits of one source file together with the violations they fix.
+ *
+ * <p>Fixers only look violations up while edits are collected. The violations are consumed
+ * by {@link #consume()} once the patch is known to be applied, so a file whose patch is
+ * incomplete or conflicting can still be fixed on its syntax tree.
+ */
+public final class FilePatch {
+
+    private static final Logger LOG = Logger.getLogger(FilePatch.class.getName());
+
+    private static final String TEMP_SUFFIX = ".patch";
+
+    private final FileViolations violations;
+
+    private final List<TextEdit> edits = new ArrayList<>();
+
+    private final List<Violation> fixed = new ArrayList<>();
+
+    private final Map<CheckstyleCheck, Integer> fixedCounts =
+            new EnumMap<>(CheckstyleCheck.class);
+
+    private List<TextEdit> resolved;
+
+    private boolean upToDate;
+
+    /**
+     * Creates an empty patch.
+     *
+     * @param violations the violations of the patched file
+     */
+    public FilePatch(FileViolations violations) {
+        this.violations = violations;
+    }
+
+    /**
+     * Adds an edit that fixes a violation.
+     *
+     * @param edit the edit
+     * @param check the check of the fixed violation
+     * @param line the line of the fixed violation
+     * @param column the column of the fixed violation
+     */
+    public void add(TextEdit edit, CheckstyleCheck check, int line, int column) {
+        edits.add(edit);
+        upToDate = false;
+        addFixed(check, line, column);
+    }
+
+    /**
+     * Records a violation that is fixed without an edit of its own, for example because
+     * another edit of the patch fixes it too.
+     *
+     * @param check the check of the fixed violation
+     * @param line the line of the fixed violation
+     * @param column the column of the fixed violation
+     */
+    public void addFixed(CheckstyleCheck check, int line, int column) {
+        fixed.add(new Violation(check, line, column));
+        fixedCounts.merge(check, 1, Integer::sum);
+    }
+
+    /**
+     * Checks whether every remaining violation of the given checks is fixed by the patch.
+     *
+     * @param checks the checks
+     * @return {@code true} if no violation of the checks is left unfixed
+     */
+    public boolean isComplete(Set<CheckstyleCheck> checks) {
+        boolean result = true;
+        for (CheckstyleCheck check : checks) {
+            result &= fixedCounts.getOrDefault(check, 0) == violations.getViolationCount(check);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether two different edits change the same bytes.
+     *
+     * @return {@code true} if the edits conflict
+     */
+    public boolean hasConflicts() {
+        return getEdits() == null;
+    }
+
+    /**
+     * Returns the edits ordered by offset without duplicates.
+     *
+     * @return the edits, or {@code null} if they conflict
+     */
+    public List<TextEdit> getEdits() {
+        if (!upToDate) {
+            resolved = resolve(edits);
+            upToDate = true;
+        }
+        return resolved;
+    }
+
+    /**
+     * Consumes the fixed violations from the index.
+     */
+    public void consume() {
+        for (Violation violation : fixed) {
+            violations.consume(violation.check, violation.line, violation.column);
+        }
+    }
+
+    /**
+     * Applies the edits to a text in memory.
+     *
+     * @param text the text the edits were collected from
+     * @return the patched bytes
+     * @throws IllegalStateException if the edits conflict
+     */
+    public byte[] apply(SourceText text) {
+        final ByteBuffer result = ByteBuffer.allocate(getPatchedLength(text));
+        int position = 0;
+        for (TextEdit edit : getConflictFreeEdits()) {
+            result.put(text.slice(position, edit.getOffset()));
+            result.put(edit.getReplacement());
+            position = edit.getEnd();
+        }
+        result.put(text.slice(position, text.length()));
+        return result.array();
+    }
+
+    /**
+     * Applies the edits to a file in one streaming copy. Unchanged ranges are transferred
+     * between file channels into a temporary file next to the source file, which then
+     * replaces the source file.
+     *
+     * @param filePath the file the edits were collected from
+     * @throws IOException if the file cannot be patched
+     * @throws IllegalStateException if the edits conflict
+     */
+    public void apply(Path filePath) throws IOException {
+        final List<TextEdit> conflictFree = getConflictFreeEdits();
+        final Path tempFile = createTempFile(filePath);
+        try {
+            try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                long position = 0;
+                for (TextEdit edit : conflictFree) {
+                    transfer(source, position, edit.getOffset(), target);
+                    target.write(ByteBuffer.wrap(edit.getReplacement()));
+                    position = edit.getEnd();
+                }
+                transfer(source, position, source.size(), target);
+            }
+            replace(filePath, tempFile);
+        }
+        finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Applies the edits to the text read from a file in a charset other than UTF-8 and
+     * replaces the file with the patched text encoded in that charset.
+     *
+     * @param filePath the file the text was read from
+     * @param text the text the edits were collected from
+     * @param charset the charset of the file
+     * @throws CharacterCodingException if the patched text cannot be encoded in the charset
+     * @throws IOException if the file cannot be patched
+     * @throws IllegalStateException if the edits conflict
+     */
+    public void apply(Path filePath, SourceText text, Charset charset) throws IOException {
+        final ByteBuffer content = charset.newEncoder()
+                .encode(StandardCharsets.UTF_8.decode(ByteBuffer.wrap(apply(text))));
+        final Path tempFile = createTempFile(filePath);
+        try {
+            try (FileChannel target = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                while (content.hasRemaining()) {
+                    target.write(content);
+                }
+            }
+            replace(filePath, tempFile);
+        }
+        finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private List<TextEdit> getConflictFreeEdits() {
+        final List<TextEdit> result = getEdits();
+        if (result == null) {
+            throw new IllegalStateException("Conflicting edits in "
+                    + violations.getFilePath());
+        }
+        return result;
+    }
+
+    private int getPatchedLength(SourceText text) {
+        int result = text.length();
+        for (TextEdit edit : getConflictFreeEdits()) {
+            result += edit.getReplacement().length - edit.getLength();
+        }
+        return result;
+    }
+
+    private List<TextEdit> resolve(List<TextEdit> collected) {
+        final List<TextEdit> sorted = new ArrayList<>(collected);
+        sorted.sort(TextEdit.ORDER);
+        List<TextEdit> result = new ArrayList<>(sorted.size());
+        boolean conflicting = false;
+        TextEdit previous = null;
+        for (TextEdit edit : sorted) {
+            if (previous == null || !previous.isSameAs(edit) && !previous.overlaps(edit)) {
+                result.add(edit);
+                previous = edit;
+            }
+            else if (!previous.isSameAs(edit)) {
+                LOG.log(Level.FINE, "Conflicting edits {0} and {1} in {2}",
+                        new Object[] {previous, edit, violations.getFilePath()});
+                conflicting = true;
+            }
+        }
+        if (conflicting) {
+            result = null;
+        }
+        return result;
+    }
+
+    private static Path createTempFile(Path filePath) throws IOException {
+        final Path absolutePath = filePath.toAbsolutePath();
+        return Files.createTempFile(absolutePath.getParent(),
+                absolutePath.getFileName().toString(), TEMP_SUFFIX);
+    }
+
+    private static void replace(Path filePath, Path tempFile) throws IOException {
+        copyPermissions(filePath, tempFile);
+        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void transfer(FileChannel source, long start, long end, FileChannel target)
+            throws IOException {
+        long position = start;
+        while (position < end) {
+            position += source.transferTo(position, end - position, target);
+        }
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        final PosixFileAttributeView view =
+                Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (view != null) {
+            Files.setPosixFilePermissions(target, view.readAttributes().permissions());
+        }
+    }
+
+    /**
+     * Position of a fixed violation.
+     */
+    private static final class Violation {
+
+        private final CheckstyleCheck check;
+
+        private final int line;
+
+        private final int column;
+
+        private Violation(CheckstyleCheck check, int line, int column) {
+            this.check = check;
+            this.line = line;
+            this.column = column;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.nio.charset.StandardCharsets;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.recipe.Header;
+
+/**
+ * Fixes Header violations by inserting the configured header at the start of the file,
+ * unless the file already starts with it.
+ */
+public final class HeaderPatch implements PatchFixer {
+
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final String licenseHeader;
+
+    /**
+     * Creates a fixer for the configured header.
+     *
+     * @param config the configuration of the Header check
+     * @throws IllegalArgumentException if the header file cannot be read
+     */
+    public HeaderPatch(CheckConfiguration config) {
+        this.licenseHeader = Header.readLicenseHeader(config);
+    }
+
+    @Override
+    public void collectEdits(SourceText text, FileViolations violations, FilePatch patch) {
+        boolean fixed = startsWithLicenseHeader(text);
+        for (int row = 0; row < violations.size(); row++) {
+            final int line = violations.getLine(row);
+            final int column = violations.getColumn(row);
+            if (violations.getCheck(row) == CheckstyleCheck.HEADER
+                    && violations.contains(CheckstyleCheck.HEADER, line, column)) {
+                if (fixed) {
+                    patch.addFixed(CheckstyleCheck.HEADER, line, column);
+                }
+                else {
+                    patch.add(TextEdit.insert(0, licenseHeader + LINE_SEPARATOR),
+                            CheckstyleCheck.HEADER, line, column);
+                    fixed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compares the start of the file with the header, ignoring carriage returns. Every
+     * header byte can be followed by at most one carriage return, so twice the header
+     * length is enough to compare.
+     *
+     * @param text the content of the file
+     * @return {@code true} if the file starts with the header
+     */
+    private boolean startsWithLicenseHeader(SourceText text) {
+        final int headerLength = licenseHeader.getBytes(StandardCharsets.UTF_8).length;
+        return text.getText(0, Math.min(text.length(), 2 * headerLength))
+                .replace("\r\n", LINE_SEPARATOR)
+                .startsWith(licenseHeader);
+    }
+}
@@ -0,0 +1,275 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.util.Locale;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+
+/**
+ * Fixes UpperEll and HexLiteralCase violations on the source text, without parsing the file
+ * into a syntax tree.
+ *
+ * <p>The source is scanned once while skipping comments, string and character literals and
+ * text blocks. At the start of every numeric literal in code the position is matched against
+ * the sorted violations of each check through a cursor, and a reported literal gets an edit
+ * that rewrites it in place. The scan ends once the cursors have passed all violations.
+ * Both fixes keep the length of the literal, so the positions of later violations stay valid.
+ */
+public final class LexicalFixer implements PatchFixer {
+
+    private static final String HEX_PREFIX = "0x";
+
+    private static final byte LOWERCASE_L = 'l';
+
+    private static final String UPPERCASE_L = "L";
+
+    private static final String TEXT_BLOCK_QUOTES = "\"\"\"";
+
+    private static final String BLOCK_COMMENT_END = "*/";
+
+    private final boolean fixUpperEll;
+
+    private final boolean fixHexLiteralCase;
+
+    /**
+     * Creates a fixer for the given checks.
+     *
+     * @param fixUpperEll whether UpperEll violations are fixed
+     * @param fixHexLiteralCase whether HexLiteralCase violations are fixed
+     */
+    public LexicalFixer(boolean fixUpperEll, boolean fixHexLiteralCase) {
+        this.fixUpperEll = fixUpperEll;
+        this.fixHexLiteralCase = fixHexLiteralCase;
+    }
+
+    @Override
+    public void collectEdits(SourceText text, FileViolations violations, FilePatch patch) {
+        final boolean upperEll = fixUpperEll
+                && violations.hasViolations(CheckstyleCheck.UPPER_ELL);
+        final boolean hexLiteralCase = fixHexLiteralCase
+                && violations.hasViolations(CheckstyleCheck.HEX_LITERAL_CASE);
+        if (upperEll || hexLiteralCase) {
+            new Scanner(text, violations, patch, upperEll, hexLiteralCase).scan();
+        }
+    }
+
+    /**
+     * Single pass over the bytes of a file that tracks the line and column. Java syntax
+     * outside of identifiers, comments and literals is ASCII, so bytes of multi-byte
+     * characters are treated as identifier parts.
+     */
+    private static final class Scanner {
+
+        private final SourceText text;
+
+        private final FilePatch patch;
+
+        private final boolean upperEll;
+
+        private final boolean hexLiteralCase;
+
+        private final FileViolations.CheckCursor upperEllCursor;
+
+        private final FileViolations.CheckCursor hexLiteralCaseCursor;
+
+        private int index;
+
+        private int line = 1;
+
+        private int column = 1;
+
+        private Scanner(SourceText text, FileViolations violations, FilePatch patch,
+                        boolean upperEll, boolean hexLiteralCase) {
+            this.text = text;
+            this.patch = patch;
+            this.upperEll = upperEll;
+            this.hexLiteralCase = hexLiteralCase;
+            upperEllCursor = violations.cursor(CheckstyleCheck.UPPER_ELL);
+            hexLiteralCaseCursor = violations.cursor(CheckstyleCheck.HEX_LITERAL_CASE);
+        }
+
+        private void scan() {
+            while (index < text.length() && !isExhausted()) {
+                final byte current = text.byteAt(index);
+                if (text.startsWith(index, "//")) {
+                    skipLineComment();
+                }
+                else if (text.startsWith(index, "/*")) {
+                    skipUntil(BLOCK_COMMENT_END, false);
+                }
+                else if (text.startsWith(index, TEXT_BLOCK_QUOTES)) {
+                    skipUntil(TEXT_BLOCK_QUOTES, true);
+                }
+                else if (current == '"' || current == '\'') {
+                    skipQuoted(current);
+                }
+                else if (isDigit(current) && !isIdentifierPart(index - 1)) {
+                    scanNumber();
+                }
+                else {
+                    advance();
+                }
+            }
+        }
+
+        /**
+         * Scans a numeric literal and fixes it when a violation is reported at its start.
+         * The sign of an exponent is part of the literal, a decimal exponent starts with
+         * {@code e} and a hexadecimal one with {@code p}.
+         */
+        private void scanNumber() {
+            final int start = index;
+            final int startColumn = column;
+            final boolean hex = isHexPrefix(start);
+            boolean integral = true;
+            advance();
+            while (index < text.length() && isNumberPart(index, hex)) {
+                final byte current = toLowerCase(text.byteAt(index));
+                if (current == '.' || hex && current == 'p'
+                        || !hex && (current == 'e' || current == 'f' || current == 'd')) {
+                    integral = false;
+                }
+                advance();
+            }
+            if (integral) {
+                fixLiteral(start, startColumn);
+            }
+        }
+
+        /**
+         * Adds the edit of a reported integral literal. Uppercasing the digits of
+         * a hexadecimal literal uppercases its suffix too, so a literal reported by both
+         * checks gets a single edit.
+         *
+         * @param start the offset of the literal
+         * @param startColumn the column of the literal
+         */
+        private void fixLiteral(int start, int startColumn) {
+            final boolean upperEllFix = upperEll && text.byteAt(index - 1) == LOWERCASE_L
+                    && upperEllCursor.contains(line, startColumn);
+            final boolean hexLiteralCaseFix = hexLiteralCase
+                    && index - start > HEX_PREFIX.length() && isHexPrefix(start)
+                    && hexLiteralCaseCursor.contains(line, startColumn);
+            if (hexLiteralCaseFix) {
+                final int digits = start + HEX_PREFIX.length();
+                patch.add(TextEdit.replace(digits, index - digits,
+                        text.getText(digits, index).toUpperCase(Locale.ROOT)),
+                        CheckstyleCheck.HEX_LITERAL_CASE, line, startColumn);
+                if (upperEllFix) {
+                    patch.addFixed(CheckstyleCheck.UPPER_ELL, line, startColumn);
+                }
+            }
+            else if (upperEllFix) {
+                patch.add(TextEdit.replace(index - 1, 1, UPPERCASE_L),
+                        CheckstyleCheck.UPPER_ELL, line, startColumn);
+            }
+        }
+
+        private boolean isExhausted() {
+            return (!upperEll || upperEllCursor.isExhausted())
+                    && (!hexLiteralCase || hexLiteralCaseCursor.isExhausted());
+        }
+
+        private boolean isNumberPart(int position, boolean hex) {
+            final byte current = text.byteAt(position);
+            final byte previous = toLowerCase(text.byteAt(position - 1));
+            final boolean exponentSign = (current == '+' || current == '-')
+                    && (hex && previous == 'p' || !hex && previous == 'e');
+            return current == '.' || exponentSign || isIdentifierPart(position);
+        }
+
+        private boolean isHexPrefix(int position) {
+            return position + 1 < text.length() && text.byteAt(position) == '0'
+                    && toLowerCase(text.byteAt(position + 1)) == 'x';
+        }
+
+        private void skipLineComment() {
+            while (index < text.length() && text.byteAt(index) != '\n') {
+                advance();
+            }
+        }
+
+        /**
+         * Skips a block comment or a text block, which are opened and closed by the same
+         * number of characters.
+         *
+         * @param terminator the closing characters
+         * @param escapes whether a backslash escapes the next character
+         */
+        private void skipUntil(String terminator, boolean escapes) {
+            for (int count = 0; count < terminator.length(); count++) {
+                advance();
+            }
+            while (index < text.length() && !text.startsWith(index, terminator)) {
+                if (escapes && text.byteAt(index) == '\\') {
+                    advance();
+                }
+                advance();
+            }
+            for (int count = 0; count < terminator.length() && index < text.length();
+                 count++) {
+                advance();
+            }
+        }
+
+        private void skipQuoted(byte quote) {
+            advance();
+            while (index < text.length() && text.byteAt(index) != quote
+                    && text.byteAt(index) != '\n') {
+                if (text.byteAt(index) == '\\') {
+                    advance();
+                }
+                advance();
+            }
+            advance();
+        }
+
+        private void advance() {
+            if (index < text.length()) {
+                final byte current = text.byteAt(index);
+                if (current == '\n') {
+                    line++;
+                    column = 1;
+                }
+                else {
+                    column += SourceText.getColumnWidth(current);
+                }
+            }
+            index++;
+        }
+
+        private boolean isIdentifierPart(int position) {
+            boolean result = false;
+            if (position >= 0 && position < text.length()) {
+                final byte value = text.byteAt(position);
+                result = value < 0 || Character.isJavaIdentifierPart((char) value);
+            }
+            return result;
+        }
+
+        private static boolean isDigit(byte value) {
+            return value >= '0' && value <= '9';
+        }
+
+        private static byte toLowerCase(byte value) {
+            return (byte) Character.toLowerCase((char) value);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.FileViolations;
+
+/**
+ * Fixes the violations of the checks opted in to text patches without parsing files.
+ *
+ * <p>A file is patched only when every configured check with violations in it is patched
+ * and its edits fix all of those violations without conflicts. Otherwise the file is left
+ * untouched with its violations unconsumed, so the syntax tree based fixes see the original
+ * positions.
+ *
+ * <p>Files are read and written in the {@code charset} configured for the checker. A file
+ * that is not valid in that charset, or whose patched text cannot be encoded in it, is left
+ * to the syntax tree based fixes with a warning.
+ */
+public final class PatchEngine {
+
+    private static final Logger LOG = Logger.getLogger(PatchEngine.class.getName());
+
+    private static final String CHARSET_PROPERTY = "charset";
+
+    private static final Set<CheckstyleCheck> SUPPORTED_CHECKS = Collections.unmodifiableSet(
+            EnumSet.of(CheckstyleCheck.UPPER_ELL, CheckstyleCheck.HEX_LITERAL_CASE,
+                    CheckstyleCheck.REDUNDANT_IMPORT, CheckstyleCheck.HEADER));
+
+    private final Set<CheckstyleCheck> checks;
+
+    private final List<PatchFixer> fixers = new ArrayList<>();
+
+    private final Charset charset;
+
+    /**
+     * Creates an engine for the enabled checks that are configured.
+     *
+     * @param configuration the Checkstyle configuration
+     * @param enabledChecks the checks opted in to text patches
+     * @throws IllegalArgumentException if an enabled check cannot be fixed with a patch
+     */
+    public PatchEngine(Map<CheckstyleCheck, CheckConfiguration> configuration,
+                       Set<CheckstyleCheck> enabledChecks) {
+        checks = EnumSet.noneOf(CheckstyleCheck.class);
+        for (CheckstyleCheck check : enabledChecks) {
+            if (!isSupported(check)) {
+                throw new IllegalArgumentException("Check cannot be fixed with text patches: "
+                        + check.getId());
+            }
+            if (configuration.containsKey(check)) {
+                checks.add(check);
+            }
+        }
+        if (checks.contains(CheckstyleCheck.UPPER_ELL)
+                || checks.contains(CheckstyleCheck.HEX_LITERAL_CASE)) {
+            fixers.add(new LexicalFixer(checks.contains(CheckstyleCheck.UPPER_ELL),
+                    checks.contains(CheckstyleCheck.HEX_LITERAL_CASE)));
+        }
+        if (checks.contains(CheckstyleCheck.REDUNDANT_IMPORT)) {
+            fixers.add(new RedundantImportPatch());
+        }
+        if (checks.contains(CheckstyleCheck.HEADER)) {
+            fixers.add(new HeaderPatch(configuration.get(CheckstyleCheck.HEADER)));
+        }
+        charset = checks.stream()
+                .findFirst()
+                .map(check -> configuration.get(check).getPropertyOrDefault(CHARSET_PROPERTY,
+                        Charset.defaultCharset().name()))
+                .map(Charset::forName)
+                .orElseGet(Charset::defaultCharset);
+    }
+
+    /**
+     * Checks whether violations of the given check can be fixed with text patches.
+     *
+     * @param check the check
+     * @return {@code true} if a patch fixer exists for the check
+     */
+    public static boolean isSupported(CheckstyleCheck check) {
+        return SUPPORTED_CHECKS.contains(check);
+    }
+
+    /**
+     * Patches a file if all its violations of configured checks can be fixed on the text,
+     * consuming the fixed violations.
+     *
+     * @param violations the violations of the file
+     * @param configuredChecks the configured checks
+     * @return {@code true} if the file was changed
+     * @throws IOException if the file cannot be read or written
+     */
+    public boolean apply(FileViolations violations, Set<CheckstyleCheck> configuredChecks)
+            throws IOException {
+        final Path filePath = violations.getFilePath();
+        boolean result = false;
+        if (isPatchable(violations, configuredChecks) && Files.isRegularFile(filePath)) {
+            final SourceText text = read(filePath);
+            if (text != null) {
+                final FilePatch patch = new FilePatch(violations);
+                for (PatchFixer fixer : fixers) {
+                    fixer.collectEdits(text, violations, patch);
+                }
+                if (patch.isComplete(checks) && !patch.hasConflicts()
+                        && (patch.getEdits().isEmpty() || write(filePath, text, patch))) {
+                    patch.consume();
+                    result = !patch.getEdits().isEmpty();
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads a file in the configured charset.
+     *
+     * @param filePath the file
+     * @return the text, or {@code null} if the file is not valid in the charset
+     * @throws IOException if the file cannot be read
+     */
+    private SourceText read(Path filePath) throws IOException {
+        SourceText result = null;
+        try {
+            result = SourceText.read(filePath, charset);
+        }
+        catch (CharacterCodingException exception) {
+            LOG.log(Level.WARNING, "Not patching " + filePath + ", it is not valid "
+                    + charset, exception);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the patched file in the configured charset.
+     *
+     * @param filePath the file
+     * @param text the text the edits were collected from
+     * @param patch the edits
+     * @return {@code false} if the patched text cannot be encoded in the charset
+     * @throws IOException if the file cannot be written
+     */
+    private boolean write(Path filePath, SourceText text, FilePatch patch) throws IOException {
+        boolean result = true;
+        try {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                patch.apply(filePath);
+            }
+            else {
+                patch.apply(filePath, text, charset);
+            }
+        }
+        catch (CharacterCodingException exception) {
+            LOG.log(Level.WARNING, "Not patching " + filePath + ", the fix cannot be encoded"
+                    + " in " + charset, exception);
+            result = false;
+        }
+        return result;
+    }
+
+    private boolean isPatchable(FileViolations violations, Set<CheckstyleCheck> configured) {
+        boolean reported = false;
+        boolean patched = true;
+        for (CheckstyleCheck check : configured) {
+            if (violations.hasViolations(check)) {
+                reported = true;
+                patched &= checks.contains(check);
+            }
+        }
+        return reported && patched;
+    }
+}
@@ -0,0 +1,38 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import org.checkstyle.autofix.parser.FileViolations;
+
+/**
+ * Fix that turns violations of a source file into text edits.
+ */
+@FunctionalInterface
+public interface PatchFixer {
+
+    /**
+     * Adds edits for the remaining violations that can be fixed on the text. Violations
+     * must only be looked up, {@link FilePatch#consume()} consumes them once the patch is
+     * applied.
+     *
+     * @param text the content of the file
+     * @param violations the violations of the file
+     * @param patch the patch collecting the edits
+     */
+    void collectEdits(SourceText text, FileViolations violations, FilePatch patch);
+}
@@ -0,0 +1,55 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.util.regex.Pattern;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+
+/**
+ * Fixes RedundantImport violations by deleting the line of the reported import.
+ *
+ * <p>Checkstyle has already decided that the import is redundant, so only the shape of the
+ * line is verified: an import that shares its line with other code or a comment is left
+ * to the syntax tree based fix.
+ */
+public final class RedundantImportPatch implements PatchFixer {
+
+    private static final Pattern IMPORT_LINE = Pattern.compile("import\\s[^;]*;");
+
+    private static final String IMPORT_KEYWORD = "import";
+
+    @Override
+    public void collectEdits(SourceText text, FileViolations violations, FilePatch patch) {
+        for (int row = 0; row < violations.size(); row++) {
+            final int line = violations.getLine(row);
+            final int column = violations.getColumn(row);
+            if (violations.getCheck(row) == CheckstyleCheck.REDUNDANT_IMPORT
+                    && violations.contains(CheckstyleCheck.REDUNDANT_IMPORT, line, column)
+                    && text.startsWith(text.getOffset(line, column), IMPORT_KEYWORD)) {
+                final int start = text.getLineStart(line);
+                final int end = text.getNextLineStart(line);
+                if (IMPORT_LINE.matcher(text.getText(start, end).strip()).matches()) {
+                    patch.add(TextEdit.delete(start, end - start),
+                            CheckstyleCheck.REDUNDANT_IMPORT, line, column);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only UTF-8 bytes of a source file with line and column lookup.
+ *
+ * <p>UTF-8 files are memory mapped, files in other charsets are decoded and held as UTF-8,
+ * so offsets always refer to the UTF-8 encoding. The offsets of line starts are computed on
+ * the first
+ * lookup. Lines and columns are 1-based like in Checkstyle reports, and a column counts
+ * characters, so a multi-byte character advances it once and a supplementary character
+ * twice.
+ */
+public final class SourceText {
+
+    private static final int CONTINUATION_MASK = 0xC0;
+
+    private static final int CONTINUATION_BITS = 0x80;
+
+    private static final int FOUR_BYTE_MASK = 0xF8;
+
+    private static final int FOUR_BYTE_BITS = 0xF0;
+
+    private final ByteBuffer bytes;
+
+    private int[] lineStarts;
+
+    private SourceText(ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Maps a source file into memory.
+     *
+     * @param filePath the source file
+     * @return the text of the file
+     * @throws IOException if the file cannot be mapped
+     */
+    public static SourceText read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return new SourceText(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a source file in the given charset and holds it as UTF-8.
+     *
+     * @param filePath the source file
+     * @param charset the charset of the file
+     * @return the text of the file
+     * @throws CharacterCodingException if the file is not valid in the charset
+     * @throws IOException if the file cannot be read
+     */
+    public static SourceText read(Path filePath, Charset charset) throws IOException {
+        final SourceText result;
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            result = read(filePath);
+        }
+        else {
+            final String content = charset.newDecoder()
+                    .decode(ByteBuffer.wrap(Files.readAllBytes(filePath))).toString();
+            result = of(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+
+    /**
+     * Wraps the given bytes.
+     *
+     * @param content the UTF-8 encoded content
+     * @return the text
+     */
+    public static SourceText of(byte[] content) {
+        return new SourceText(ByteBuffer.wrap(content).asReadOnlyBuffer());
+    }
+
+    public int length() {
+        return bytes.limit();
+    }
+
+    public byte byteAt(int offset) {
+        return bytes.get(offset);
+    }
+
+    /**
+     * Checks whether the bytes at the given offset equal the given ASCII text.
+     *
+     * @param offset the offset to compare at
+     * @param text the expected ASCII text
+     * @return {@code true} if the text is found at the offset
+     */
+    public boolean startsWith(int offset, String text) {
+        boolean result = offset >= 0 && offset + text.length() <= length();
+        for (int index = 0; result && index < text.length(); index++) {
+            result = bytes.get(offset + index) == text.charAt(index);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a byte range.
+     *
+     * @param start the offset of the first byte
+     * @param end the offset after the last byte
+     * @return the decoded text
+     */
+    public String getText(int start, int end) {
+        final byte[] content = new byte[end - start];
+        bytes.get(start, content);
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of lines. Text after the last line feed is a line too.
+     *
+     * @return the number of lines
+     */
+    public int getLineCount() {
+        return getLineStarts().length;
+    }
+
+    /**
+     * Returns the offset of the first byte of a line.
+     *
+     * @param line the 1-based line number
+     * @return the offset
+     */
+    public int getLineStart(int line) {
+        return getLineStarts()[line - 1];
+    }
+
+    /**
+     * Returns the offset after the line feed that terminates a line, or the length of
+     * the text for the last line.
+     *
+     * @param line the 1-based line number
+     * @return the offset of the next line
+     */
+    public int getNextLineStart(int line) {
+        int result = length();
+        if (line < getLineCount()) {
+            result = getLineStart(line + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the offset of a position.
+     *
+     * @param line the 1-based line number
+     * @param column the 1-based column
+     * @return the offset, or -1 if the position is outside of the text
+     */
+    public int getOffset(int line, int column) {
+        int result = -1;
+        if (line >= 1 && line <= getLineCount() && column >= 1) {
+            final int lineEnd = getNextLineStart(line);
+            int offset = getLineStart(line);
+            int current = 1;
+            while (offset < lineEnd
+                    && (current < column || getColumnWidth(bytes.get(offset)) == 0)) {
+                current += getColumnWidth(bytes.get(offset));
+                offset++;
+            }
+            if (current == column && offset < lineEnd) {
+                result = offset;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns how many columns a byte advances the position by.
+     *
+     * @param value the byte
+     * @return 0 for UTF-8 continuation bytes, 2 for the lead byte of a supplementary
+     *     character and 1 otherwise
+     */
+    static int getColumnWidth(byte value) {
+        int result = 1;
+        if ((value & CONTINUATION_MASK) == CONTINUATION_BITS) {
+            result = 0;
+        }
+        else if ((value & FOUR_BYTE_MASK) == FOUR_BYTE_BITS) {
+            result = 2;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a read-only view of a byte range.
+     *
+     * @param start the offset of the first byte
+     * @param end the offset after the last byte
+     * @return the view
+     */
+    ByteBuffer slice(int start, int end) {
+        return bytes.slice(start, end - start);
+    }
+
+    private int[] getLineStarts() {
+        if (lineStarts == null) {
+            int count = 1;
+            for (int offset = 0; offset < length(); offset++) {
+                if (bytes.get(offset) == '\n') {
+                    count++;
+                }
+            }
+            final int[] starts = new int[count];
+            int line = 1;
+            for (int offset = 0; offset < length(); offset++) {
+                if (bytes.get(offset) == '\n') {
+                    starts[line] = offset + 1;
+                    line++;
+                }
+            }
+            lineStarts = starts;
+        }
+        return lineStarts;
+    }
+}
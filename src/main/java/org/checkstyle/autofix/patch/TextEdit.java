@@ -0,0 +1,133 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Replacement of a byte range of a source file. An empty range inserts the replacement and
+ * an empty replacement deletes the range.
+ */
+public final class TextEdit {
+
+    /** Orders edits by offset, placing insertions before replacements at the same offset. */
+    static final Comparator<TextEdit> ORDER = Comparator.comparingInt(TextEdit::getOffset)
+            .thenComparingInt(TextEdit::getLength);
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int offset;
+
+    private final int length;
+
+    private final byte[] replacement;
+
+    private TextEdit(int offset, int length, byte[] replacement) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Invalid range: " + offset + "+" + length);
+        }
+        this.offset = offset;
+        this.length = length;
+        this.replacement = replacement;
+    }
+
+    /**
+     * Creates an edit that replaces a byte range.
+     *
+     * @param offset the offset of the first replaced byte
+     * @param length the number of replaced bytes
+     * @param replacement the replacement text, encoded as UTF-8
+     * @return the edit
+     */
+    public static TextEdit replace(int offset, int length, String replacement) {
+        return new TextEdit(offset, length, replacement.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates an edit that inserts text before a byte.
+     *
+     * @param offset the offset of the byte the text is inserted before
+     * @param text the inserted text, encoded as UTF-8
+     * @return the edit
+     */
+    public static TextEdit insert(int offset, String text) {
+        return replace(offset, 0, text);
+    }
+
+    /**
+     * Creates an edit that deletes a byte range.
+     *
+     * @param offset the offset of the first deleted byte
+     * @param length the number of deleted bytes
+     * @return the edit
+     */
+    public static TextEdit delete(int offset, int length) {
+        return new TextEdit(offset, length, EMPTY);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getEnd() {
+        return offset + length;
+    }
+
+    /**
+     * Returns the replacement bytes. The array is shared and must not be modified.
+     *
+     * @return the replacement bytes
+     */
+    byte[] getReplacement() {
+        return replacement;
+    }
+
+    /**
+     * Checks whether this edit and an edit that is not ordered before it change the same
+     * bytes. Edits that only touch at a boundary do not overlap.
+     *
+     * @param next an edit that does not precede this edit
+     * @return {@code true} if the edits overlap
+     */
+    boolean overlaps(TextEdit next) {
+        return next.offset < getEnd();
+    }
+
+    /**
+     * Checks whether the other edit makes exactly the same change.
+     *
+     * @param other the other edit
+     * @return {@code true} if both edits replace the same range with the same bytes
+     */
+    boolean isSameAs(TextEdit other) {
+        return offset == other.offset && length == other.length
+                && Arrays.equals(replacement, other.replacement);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + offset + ", " + getEnd() + ") -> \""
+                + new String(replacement, StandardCharsets.UTF_8) + "\"";
+    }
+}
@@ -0,0 +1,75 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.recipe;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.openrewrite.java.tree.J;
+
+/**
+ * Fix for the violations of one Checkstyle check, expressed as hooks that
+ * {@link CheckstyleFixes} calls from a single traversal shared by all fixers.
+ *
+ * <p>Every hook is called after the children of the element have been visited and
+ * receives the element as returned by the previous fixers. Hooks return the element
+ * unchanged by default; {@link #visitImport} may return {@code null} to remove the import.
+ *
+ * <p>Different files may be fixed concurrently by the same fixer, so state that belongs
+ * to one file is kept in {@link FixContext#getState} rather than in fields.
+ */
+public interface CheckstyleFixer {
+
+    /**
+     * Returns the check whose violations this fixer resolves. Hooks are called only
+     * for files with at least one violation of the check.
+     *
+     * @return the fixed check
+     */
+    CheckstyleCheck getCheck();
+
+    /**
+     * Tells whether the fixer needs the elements below the compilation unit. When no active
+     * fixer of a file needs them, only the compilation unit hook is called.
+     *
+     * @return {@code true} if hooks other than the compilation unit hook are used
+     */
+    default boolean requiresTraversal() {
+        return true;
+    }
+
+    default J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit,
+                                                   FixContext context) {
+        return compilationUnit;
+    }
+
+    default J.Import visitImport(J.Import importStatement, FixContext context) {
+        return importStatement;
+    }
+
+    default J.Literal visitLiteral(J.Literal literal, FixContext context) {
+        return literal;
+    }
+
+    default J.VariableDeclarations visitVariableDeclarations(
+            J.VariableDeclarations declarations, FixContext context) {
+        return declarations;
+    }
+
+    default J.Block visitBlock(J.Block block, FixContext context) {
+        return block;
+    }
+}
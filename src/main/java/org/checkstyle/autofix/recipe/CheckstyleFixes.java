@@ -0,0 +1,194 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.recipe;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+
+/**
+ * Runs the fixers of all reported checks in one traversal per file.
+ *
+ * <p>Each compilation unit is visited once and every literal, import, variable
+ * declaration, block and the compilation unit itself are handed to the fixers whose
+ * checks have violations in that file, so the traversal cost does not grow with
+ * the number of enabled checks. Once the traversal has passed the last violation of every
+ * fixer that needs it, the elements that follow are no longer entered.
+ */
+public class CheckstyleFixes extends Recipe {
+
+    private final ViolationIndex violations;
+
+    private final List<CheckstyleFixer> fixers;
+
+    public CheckstyleFixes(ViolationIndex violations, List<CheckstyleFixer> fixers) {
+        this.violations = violations;
+        this.fixers = List.copyOf(fixers);
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Checkstyle fixes";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Fixes the reported violations of all supported checks in a single pass.";
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return createVisitor(violations, fixers);
+    }
+
+    /**
+     * Creates the visitor that applies the given fixers to files with violations
+     * of their checks.
+     *
+     * @param violations the index of Checkstyle violations
+     * @param fixers the fixers to apply
+     * @return the visitor
+     */
+    static TreeVisitor<?, ExecutionContext> createVisitor(ViolationIndex violations,
+                                                         List<CheckstyleFixer> fixers) {
+        final Set<CheckstyleCheck> checks = EnumSet.noneOf(CheckstyleCheck.class);
+        for (CheckstyleFixer fixer : fixers) {
+            checks.add(fixer.getCheck());
+        }
+        return Preconditions.check(new HasViolations(violations, checks),
+                new FixingVisitor(violations, fixers));
+    }
+
+    /**
+     * Visitor that dispatches every hook to the fixers active in the current file.
+     * It holds the state of the file being visited, so every call of
+     * {@link #createVisitor} returns a new instance and instances are not shared between
+     * threads.
+     */
+    private static final class FixingVisitor extends JavaIsoVisitor<ExecutionContext> {
+
+        private final ViolationIndex violations;
+
+        private final List<CheckstyleFixer> fixers;
+
+        private List<CheckstyleFixer> activeFixers = List.of();
+
+        private List<CheckstyleCheck> traversedChecks = List.of();
+
+        private FixContext context;
+
+        private FixingVisitor(ViolationIndex violations, List<CheckstyleFixer> fixers) {
+            this.violations = violations;
+            this.fixers = fixers;
+        }
+
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu,
+                                                      ExecutionContext executionContext) {
+            final FileViolations fileViolations =
+                    violations.getFileViolations(cu.getSourcePath());
+            activeFixers = new ArrayList<>();
+            traversedChecks = new ArrayList<>();
+            for (CheckstyleFixer fixer : fixers) {
+                if (fileViolations.hasViolations(fixer.getCheck())) {
+                    activeFixers.add(fixer);
+                    if (fixer.requiresTraversal()) {
+                        traversedChecks.add(fixer.getCheck());
+                    }
+                }
+            }
+            J.CompilationUnit result = cu;
+            if (!activeFixers.isEmpty()) {
+                context = new FixContext(cu, fileViolations, this);
+                if (!traversedChecks.isEmpty()) {
+                    result = super.visitCompilationUnit(cu, executionContext);
+                }
+                for (CheckstyleFixer fixer : activeFixers) {
+                    result = fixer.visitCompilationUnit(result, context);
+                }
+                context = null;
+            }
+            return result;
+        }
+
+        /**
+         * Skips the element and its children once the violations of all traversed checks
+         * are passed. Hooks of the enclosing elements, which are already entered, still run.
+         */
+        @Override
+        public J preVisit(J tree, ExecutionContext executionContext) {
+            if (context != null && !traversedChecks.isEmpty()
+                    && context.isExhausted(traversedChecks)) {
+                stopAfterPreVisit();
+            }
+            return tree;
+        }
+
+        @Override
+        public J.Import visitImport(J.Import importStatement,
+                                    ExecutionContext executionContext) {
+            J.Import result = super.visitImport(importStatement, executionContext);
+            for (CheckstyleFixer fixer : activeFixers) {
+                if (result != null) {
+                    result = fixer.visitImport(result, context);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public J.Literal visitLiteral(J.Literal literal, ExecutionContext executionContext) {
+            J.Literal result = super.visitLiteral(literal, executionContext);
+            for (CheckstyleFixer fixer : activeFixers) {
+                result = fixer.visitLiteral(result, context);
+            }
+            return result;
+        }
+
+        @Override
+        public J.VariableDeclarations visitVariableDeclarations(
+                J.VariableDeclarations multiVariable, ExecutionContext executionContext) {
+            J.VariableDeclarations result =
+                    super.visitVariableDeclarations(multiVariable, executionContext);
+            for (CheckstyleFixer fixer : activeFixers) {
+                result = fixer.visitVariableDeclarations(result, context);
+            }
+            return result;
+        }
+
+        @Override
+        public J.Block visitBlock(J.Block block, ExecutionContext executionContext) {
+            J.Block result = super.visitBlock(block, executionContext);
+            for (CheckstyleFixer fixer : activeFixers) {
+                result = fixer.visitBlock(result, context);
+            }
+            return result;
+        }
+    }
+}
@@ -17,34 +17,37 @@
 
 package org.checkstyle.autofix.recipe;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 
-import org.checkstyle.autofix.PositionHelper;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.ViolationIndex;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.Space;
 import org.openrewrite.java.tree.Statement;
-import org.openrewrite.marker.Marker;
 import org.openrewrite.marker.Markers;
 
 /**
  * Fixes Checkstyle FinalLocalVariable violations by adding 'final' modifier to local variables
  * that are never reassigned.
+ *
+ * <p>Declarations of a single variable get the modifier when they are visited. Variables
+ * of multi-variable declarations are recorded in an identity set instead, and only a block
+ * containing such a declaration, which is visited after its statements, is rebuilt to split
+ * the recorded variables into final declarations.
  */
-public class FinalLocalVariable extends Recipe {
+public class FinalLocalVariable extends Recipe implements CheckstyleFixer {
 
-    private final List<CheckstyleViolation> violations;
+    private final ViolationIndex violations;
 
-    public FinalLocalVariable(List<CheckstyleViolation> violations) {
+    public FinalLocalVariable(ViolationIndex violations) {
         this.violations = violations;
     }
 
@@ -59,202 +62,127 @@ public class FinalLocalVariable extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<>() {
-            @Override
-            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu,
-                                                          ExecutionContext executionContext) {
-                return new LocalVariableVisitor()
-                        .visitCompilationUnit(new MarkViolationVisitor()
-                                .visitCompilationUnit(cu, executionContext), executionContext);
-            }
-        };
+    public CheckstyleCheck getCheck() {
+        return CheckstyleCheck.FINAL_LOCAL_VARIABLE;
     }
 
-    /**
-     * Visitor that identifies and marks variable declarations at violation locations.
-     * This visitor traverses the AST and adds markers to variables that match
-     * the checkstyle violation locations, preparing them for the final modifier addition.
-     */
-    private final class MarkViolationVisitor extends JavaIsoVisitor<ExecutionContext> {
-
-        private Path sourcePath;
-        private J.CompilationUnit currentCompilationUnit;
-
-        @Override
-        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu,
-                                                      ExecutionContext executionContext) {
-            this.sourcePath = cu.getSourcePath().toAbsolutePath();
-            this.currentCompilationUnit = cu;
-            return super.visitCompilationUnit(cu, executionContext);
-        }
-
-        @Override
-        public J.VariableDeclarations visitVariableDeclarations(
-                J.VariableDeclarations multiVariable, ExecutionContext executionContext) {
-
-            final J.VariableDeclarations variableDeclarations;
-
-            final J.VariableDeclarations declarations = super
-                    .visitVariableDeclarations(multiVariable, executionContext);
-
-            if (!(getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)
-                    && !declarations.hasModifier(J.Modifier.Type.Final)) {
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return CheckstyleFixes.createVisitor(violations, List.of(this));
+    }
 
-                final List<J.VariableDeclarations.NamedVariable> variables = declarations
-                        .getVariables();
-                final List<J.VariableDeclarations.NamedVariable> marked = new ArrayList<>();
-                for (J.VariableDeclarations.NamedVariable variable : variables) {
-                    if (isAtViolationLocation(variable)) {
-                        marked.add(variable.withMarkers(
-                                variable.getMarkers().add(
-                                        new FinalLocalVariableMarker(UUID.randomUUID()))));
-                    }
-                    else {
-                        marked.add(variable);
-                    }
+    @Override
+    public J.VariableDeclarations visitVariableDeclarations(
+            J.VariableDeclarations declarations, FixContext context) {
+        J.VariableDeclarations result = declarations;
+
+        if (!(context.getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)
+                && !declarations.hasModifier(J.Modifier.Type.Final)) {
+            final Set<J.VariableDeclarations.NamedVariable> marked = getMarked(context);
+            for (J.VariableDeclarations.NamedVariable variable : declarations.getVariables()) {
+                if (context.consumeViolation(CheckstyleCheck.FINAL_LOCAL_VARIABLE, variable)) {
+                    marked.add(variable);
                 }
-                variableDeclarations = declarations.withVariables(marked);
             }
-            else {
-                variableDeclarations = declarations;
-            }
-            return variableDeclarations;
-        }
-
-        private boolean isAtViolationLocation(J.VariableDeclarations.NamedVariable variable) {
-
-            final int line = PositionHelper
-                    .computeLinePosition(currentCompilationUnit, variable, getCursor());
-            final int column = PositionHelper
-                    .computeColumnPosition(currentCompilationUnit, variable, getCursor());
-
-            return violations.removeIf(violation -> {
-                final Path absolutePath = violation.getFilePath().toAbsolutePath();
-                return violation.getLine() == line
-                        && violation.getColumn() == column
-                        && absolutePath.endsWith(sourcePath)
-                        && violation.getMessage().contains(variable.getSimpleName());
-            });
-        }
-    }
-
-    /**
-     * Visitor that processes marked variable declarations and applies the final modifier.
-     * This visitor handles both single and multi-variable declarations.
-     */
-    private final class LocalVariableVisitor extends JavaIsoVisitor<ExecutionContext> {
-
-        @Override
-        public J.CompilationUnit visitCompilationUnit(
-                J.CompilationUnit cu, ExecutionContext executionContext) {
-            return super.visitCompilationUnit(cu, executionContext);
-        }
-
-        @Override
-        public J.VariableDeclarations visitVariableDeclarations(
-                J.VariableDeclarations multiVariable, ExecutionContext executionContext) {
-
-            J.VariableDeclarations declarations = super.visitVariableDeclarations(multiVariable,
-                    executionContext);
 
-            if (!(getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration)
-                    && declarations.getVariables().size() == 1
+            if (declarations.getVariables().size() == 1
                     && declarations.getTypeExpression() != null
-                    && !declarations.hasModifier(J.Modifier.Type.Final)) {
-                final J.VariableDeclarations.NamedVariable variable = declarations
-                        .getVariables().get(0);
-                if (variable.getMarkers().findFirst(FinalLocalVariableMarker.class).isPresent()) {
-                    declarations = addFinalModifier(declarations);
-                }
+                    && marked.remove(declarations.getVariables().get(0))) {
+                result = addFinalModifier(declarations);
             }
-            return declarations;
         }
+        return result;
+    }
 
-        @Override
-        public J.Block visitBlock(J.Block block, ExecutionContext executionContext) {
-            final J.Block visited = super.visitBlock(block, executionContext);
+    @Override
+    public J.Block visitBlock(J.Block block, FixContext context) {
+        final Set<J.VariableDeclarations.NamedVariable> marked = getMarked(context);
+        J.Block result = block;
 
+        if (!marked.isEmpty() && hasMarkedDeclaration(block, marked, context)) {
             final List<Statement> newStatements = new ArrayList<>();
 
-            for (Statement stmt : visited.getStatements()) {
-                if (isVariableDeclaration(stmt)) {
-                    handleMultiVariableDeclaration((J.VariableDeclarations) stmt, newStatements);
+            for (Statement stmt : block.getStatements()) {
+                if (isVariableDeclaration(stmt, context)) {
+                    handleMultiVariableDeclaration((J.VariableDeclarations) stmt, marked,
+                            newStatements);
                 }
                 else {
                     newStatements.add(stmt);
                 }
             }
-
-            return visited.withStatements(newStatements);
+            result = block.withStatements(newStatements);
         }
 
-        private void handleMultiVariableDeclaration(J.VariableDeclarations varDecl,
-                                                       List<Statement> newStatements) {
-            final List<J.VariableDeclarations.NamedVariable> violationsList = new ArrayList<>();
-            final List<J.VariableDeclarations.NamedVariable> nonViolations = new ArrayList<>();
+        return result;
+    }
 
-            for (J.VariableDeclarations.NamedVariable variable : varDecl.getVariables()) {
-                if (variable.getMarkers().findFirst(FinalLocalVariableMarker.class).isPresent()) {
-                    violationsList.add(variable.withPrefix(Space.SINGLE_SPACE));
-                }
-                else {
-                    nonViolations.add(variable.withPrefix(Space.SINGLE_SPACE));
+    private Set<J.VariableDeclarations.NamedVariable> getMarked(FixContext context) {
+        return context.getState(this, () -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static boolean hasMarkedDeclaration(J.Block block,
+                                                Set<J.VariableDeclarations.NamedVariable> marked,
+                                                FixContext context) {
+        boolean result = false;
+        for (Statement stmt : block.getStatements()) {
+            if (!result && isVariableDeclaration(stmt, context)) {
+                for (J.VariableDeclarations.NamedVariable variable
+                        : ((J.VariableDeclarations) stmt).getVariables()) {
+                    result |= marked.contains(variable);
                 }
             }
-            if (violationsList.isEmpty()) {
-                newStatements.add(varDecl);
-            }
-            else if (nonViolations.isEmpty()) {
-                newStatements.add(addFinalModifier(varDecl));
+        }
+        return result;
+    }
+
+    private static void handleMultiVariableDeclaration(
+            J.VariableDeclarations varDecl, Set<J.VariableDeclarations.NamedVariable> marked,
+            List<Statement> newStatements) {
+        final List<J.VariableDeclarations.NamedVariable> violationsList = new ArrayList<>();
+        final List<J.VariableDeclarations.NamedVariable> nonViolations = new ArrayList<>();
+
+        for (J.VariableDeclarations.NamedVariable variable : varDecl.getVariables()) {
+            if (marked.remove(variable)) {
+                violationsList.add(variable.withPrefix(Space.SINGLE_SPACE));
             }
             else {
-                newStatements.add(varDecl.withVariables(nonViolations));
-                for (J.VariableDeclarations.NamedVariable variable : violationsList) {
-                    newStatements.add(addFinalModifier(varDecl
-                            .withVariables(Collections.singletonList(variable))));
-                }
+                nonViolations.add(variable.withPrefix(Space.SINGLE_SPACE));
             }
         }
-
-        private J.VariableDeclarations addFinalModifier(J.VariableDeclarations varDecl) {
-            final List<J.Modifier> modifiers = new ArrayList<>();
-            final Space finalPrefix = varDecl.getTypeExpression().getPrefix();
-            modifiers.add(new J.Modifier(Tree.randomId(), finalPrefix,
-                    Markers.EMPTY, null, J.Modifier.Type.Final, new ArrayList<>()));
-
-            modifiers.addAll(varDecl.getModifiers());
-
-            return varDecl.withModifiers(modifiers)
-                    .withTypeExpression(varDecl.getTypeExpression().withPrefix(Space.SINGLE_SPACE));
+        if (violationsList.isEmpty()) {
+            newStatements.add(varDecl);
         }
-
-        private boolean isVariableDeclaration(Statement stmt) {
-            return stmt instanceof J.VariableDeclarations varDecl
-                    && varDecl.getVariables().size() > 1
-                    && !varDecl.hasModifier(J.Modifier.Type.Final)
-                    && varDecl.getTypeExpression() != null
-                    && !(getCursor().getParentTreeCursor()
-                    .getValue() instanceof J.ClassDeclaration);
+        else if (nonViolations.isEmpty()) {
+            newStatements.add(addFinalModifier(varDecl));
+        }
+        else {
+            newStatements.add(varDecl.withVariables(nonViolations));
+            for (J.VariableDeclarations.NamedVariable variable : violationsList) {
+                newStatements.add(addFinalModifier(varDecl
+                        .withVariables(Collections.singletonList(variable))));
+            }
         }
     }
 
-    private static final class FinalLocalVariableMarker implements Marker {
-
-        private final UUID id;
+    private static J.VariableDeclarations addFinalModifier(J.VariableDeclarations varDecl) {
+        final List<J.Modifier> modifiers = new ArrayList<>();
+        final Space finalPrefix = varDecl.getTypeExpression().getPrefix();
+        modifiers.add(new J.Modifier(Tree.randomId(), finalPrefix,
+                Markers.EMPTY, null, J.Modifier.Type.Final, new ArrayList<>()));
 
-        private FinalLocalVariableMarker(UUID uuid) {
-            this.id = uuid;
-        }
+        modifiers.addAll(varDecl.getModifiers());
 
-        @Override
-        public UUID getId() {
-            return id;
-        }
+        return varDecl.withModifiers(modifiers)
+                .withTypeExpression(varDecl.getTypeExpression().withPrefix(Space.SINGLE_SPACE));
+    }
 
-        @Override
-        public <M extends Marker> M withId(UUID uuid) {
-            return (M) new FinalLocalVariableMarker(uuid);
-        }
+    private static boolean isVariableDeclaration(Statement stmt, FixContext context) {
+        return stmt instanceof J.VariableDeclarations varDecl
+                && varDecl.getVariables().size() > 1
+                && !varDecl.hasModifier(J.Modifier.Type.Final)
+                && varDecl.getTypeExpression() != null
+                && !(context.getCursor().getParentTreeCursor()
+                .getValue() instanceof J.ClassDeclaration);
     }
 }
@@ -0,0 +1,143 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.recipe;
+
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.PositionIndex;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.J;
+
+/**
+ * State shared by all fixers while one compilation unit is visited: the violations of
+ * the file, the positions of its original elements and the cursor of the traversal.
+ *
+ * <p>Violations are matched through one {@link FileViolations.CheckCursor} per check,
+ * which follows the traversal through the sorted violations of the check.
+ */
+public final class FixContext {
+
+    private final J.CompilationUnit compilationUnit;
+
+    private final FileViolations fileViolations;
+
+    private final PositionIndex positionIndex;
+
+    private final JavaVisitor<ExecutionContext> visitor;
+
+    private final Map<CheckstyleFixer, Object> states = new IdentityHashMap<>();
+
+    private final Map<CheckstyleCheck, FileViolations.CheckCursor> cursors =
+            new EnumMap<>(CheckstyleCheck.class);
+
+    FixContext(J.CompilationUnit compilationUnit, FileViolations fileViolations,
+               JavaVisitor<ExecutionContext> visitor) {
+        this.compilationUnit = compilationUnit;
+        this.fileViolations = fileViolations;
+        this.positionIndex = new PositionIndex(compilationUnit);
+        this.visitor = visitor;
+    }
+
+    /**
+     * Returns the compilation unit as it was before any fixer changed it.
+     *
+     * @return the original compilation unit
+     */
+    public J.CompilationUnit getCompilationUnit() {
+        return compilationUnit;
+    }
+
+    public FileViolations getFileViolations() {
+        return fileViolations;
+    }
+
+    /**
+     * Returns the cursor of the traversal, pointing to the element passed to the hook.
+     *
+     * @return the current cursor
+     */
+    public Cursor getCursor() {
+        return visitor.getCursor();
+    }
+
+    /**
+     * Checks whether a violation of the check is reported at the position of the element.
+     * The element must exist in the original compilation unit.
+     *
+     * @param check the check to look up
+     * @param element the element whose position is checked
+     * @return {@code true} if a violation is reported at the element
+     */
+    public boolean isViolation(CheckstyleCheck check, J element) {
+        return getViolationCursor(check).contains(positionIndex.getLine(element),
+                positionIndex.getColumn(element));
+    }
+
+    /**
+     * Removes the violation of the check reported at the position of the element.
+     * The element must exist in the original compilation unit.
+     *
+     * @param check the check to look up
+     * @param element the element whose position is checked
+     * @return {@code true} if a violation was reported at the element
+     */
+    public boolean consumeViolation(CheckstyleCheck check, J element) {
+        return getViolationCursor(check).consume(positionIndex.getLine(element),
+                positionIndex.getColumn(element));
+    }
+
+    /**
+     * Tells whether the traversal has passed all violations of the given checks, so no
+     * element visited from now on, apart from the enclosing ones, can match a violation.
+     *
+     * @param checks the checks to look up
+     * @return {@code true} if the cursors of all checks are exhausted
+     */
+    boolean isExhausted(List<CheckstyleCheck> checks) {
+        boolean result = true;
+        for (CheckstyleCheck check : checks) {
+            result &= getViolationCursor(check).isExhausted();
+        }
+        return result;
+    }
+
+    private FileViolations.CheckCursor getViolationCursor(CheckstyleCheck check) {
+        return cursors.computeIfAbsent(check, fileViolations::cursor);
+    }
+
+    /**
+     * Returns the state a fixer keeps for the current file, creating it on first use.
+     *
+     * @param fixer the fixer owning the state
+     * @param factory creates the initial state
+     * @param <T> the type of the state
+     * @return the state of the fixer for this file
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getState(CheckstyleFixer fixer, Supplier<T> factory) {
+        return (T) states.computeIfAbsent(fixer, key -> factory.get());
+    }
+}
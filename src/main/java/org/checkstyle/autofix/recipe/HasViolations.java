@@ -0,0 +1,66 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.recipe;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.marker.SearchResult;
+
+/**
+ * Precondition that matches only source files with at least one reported violation
+ * of any of the given checks. The source file is never traversed, so files without violations
+ * are skipped at the cost of a single index lookup.
+ */
+public final class HasViolations extends TreeVisitor<Tree, ExecutionContext> {
+
+    private final ViolationIndex violations;
+
+    private final Set<CheckstyleCheck> checks;
+
+    public HasViolations(ViolationIndex violations, CheckstyleCheck check) {
+        this(violations, EnumSet.of(check));
+    }
+
+    public HasViolations(ViolationIndex violations, Set<CheckstyleCheck> checks) {
+        this.violations = violations;
+        this.checks = checks;
+    }
+
+    @Override
+    public Tree visit(Tree tree, ExecutionContext executionContext) {
+        Tree result = tree;
+        if (tree instanceof SourceFile sourceFile) {
+            final FileViolations fileViolations =
+                    violations.getFileViolations(sourceFile.getSourcePath());
+            for (CheckstyleCheck check : checks) {
+                if (result == tree && fileViolations.hasViolations(check)) {
+                    result = SearchResult.found(tree);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -21,30 +21,43 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.regex.Pattern;
 
+import org.checkstyle.autofix.CheckstyleCheck;
 import org.checkstyle.autofix.parser.CheckConfiguration;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.parser.ViolationIndex;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
-import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.Comment;
 import org.openrewrite.java.tree.J;
-import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.java.tree.Space;
 
-public class Header extends Recipe {
+/**
+ * Fixes Checkstyle Header violations by prepending the configured header.
+ *
+ * <p>The header is read and formatted once. A file is inspected only when the index
+ * reports a header violation for it, and its leading comments are compared with the header
+ * until they diverge, so neither the tree nor the rest of the file is walked. The formatted
+ * header is immutable and published through a volatile field, so files may be fixed
+ * concurrently.
+ */
+public class Header extends Recipe implements CheckstyleFixer {
     private static final String HEADER_PROPERTY = "header";
     private static final String HEADER_FILE_PROPERTY = "headerFile";
     private static final String CHARSET_PROPERTY = "charset";
     private static final String LINE_SEPARATOR = "\n";
+    private static final Pattern CARRIAGE_RETURN =
+            Pattern.compile("(?x)\\\\r(?=\\\\n)|\\r(?=\\n)");
 
-    private final List<CheckstyleViolation> violations;
+    private final ViolationIndex violations;
     private final CheckConfiguration config;
+    private volatile LicenseHeader licenseHeader;
 
-    public Header(List<CheckstyleViolation> violations, CheckConfiguration config) {
+    public Header(ViolationIndex violations, CheckConfiguration config) {
         this.violations = violations;
         this.config = config;
     }
@@ -59,13 +72,103 @@ public class Header extends Recipe {
         return "Adds headers to Java source files when missing.";
     }
 
+    @Override
+    public CheckstyleCheck getCheck() {
+        return CheckstyleCheck.HEADER;
+    }
+
+    @Override
+    public boolean requiresTraversal() {
+        return false;
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        final String licenseHeader = extractLicenseHeader(config);
-        return new HeaderVisitor(violations, licenseHeader);
+        return CheckstyleFixes.createVisitor(violations, List.of(this));
+    }
+
+    @Override
+    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit,
+                                                  FixContext context) {
+        J.CompilationUnit result = compilationUnit;
+        if (context.getFileViolations().consumeAll(CheckstyleCheck.HEADER)) {
+            final LicenseHeader header = getLicenseHeader();
+            if (!startsWithLicenseHeader(header.text, compilationUnit, context)) {
+                result = compilationUnit.withPrefix(
+                        prependLicenseHeader(header.prefix, compilationUnit));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads and formats the header on first use. Concurrent first calls may both read
+     * the header, which is harmless because they produce equal values.
+     *
+     * @return the license header
+     */
+    private LicenseHeader getLicenseHeader() {
+        LicenseHeader result = licenseHeader;
+        if (result == null) {
+            final String text = readLicenseHeader(config);
+            result = new LicenseHeader(text, Space.format(text + LINE_SEPARATOR));
+            licenseHeader = result;
+        }
+        return result;
     }
 
-    private static String extractLicenseHeader(CheckConfiguration config) {
+    /**
+     * Compares the leading comments of the file with the license header, printing
+     * comments only until the header is matched or a difference is found.
+     *
+     * @param headerText the license header
+     * @param compilationUnit the compilation unit
+     * @param context the context of the visited file
+     * @return {@code true} if the file already starts with the license header
+     */
+    private static boolean startsWithLicenseHeader(String headerText,
+                                                   J.CompilationUnit compilationUnit,
+                                                   FixContext context) {
+        final Iterator<Comment> comments = compilationUnit.getComments().iterator();
+        int offset = 0;
+        boolean matches = true;
+        while (matches && offset < headerText.length() && comments.hasNext()) {
+            final Comment comment = comments.next();
+            final String text = comment.printComment(context.getCursor())
+                    + toLfLineEnding(comment.getSuffix());
+            final int length = Math.min(text.length(), headerText.length() - offset);
+            matches = headerText.regionMatches(offset, text, 0, length);
+            offset += length;
+        }
+        return matches && offset == headerText.length();
+    }
+
+    /**
+     * Builds the prefix of the license header followed by the existing leading comments
+     * of the file, whose suffixes are normalized to LF line endings.
+     *
+     * @param headerPrefix the formatted license header
+     * @param compilationUnit the compilation unit
+     * @return the new prefix
+     */
+    private static Space prependLicenseHeader(Space headerPrefix,
+                                              J.CompilationUnit compilationUnit) {
+        final List<Comment> comments = new ArrayList<>(headerPrefix.getComments());
+        for (Comment comment : compilationUnit.getComments()) {
+            comments.add(comment.withSuffix(toLfLineEnding(comment.getSuffix())));
+        }
+        return Space.build(headerPrefix.getWhitespace(), comments);
+    }
+
+    /**
+     * Reads the header from the {@code header} property or from the file named by the
+     * {@code headerFile} property, with LF line endings.
+     *
+     * @param config the configuration of the Header check
+     * @return the header
+     * @throws IllegalArgumentException if the header file cannot be read
+     */
+    public static String readLicenseHeader(CheckConfiguration config) {
         final String header;
         if (config.hasProperty(HEADER_PROPERTY)) {
             header = config.getProperty(HEADER_PROPERTY);
@@ -86,51 +189,21 @@ public class Header extends Recipe {
     }
 
     private static String toLfLineEnding(String text) {
-        return text.replaceAll("(?x)\\\\r(?=\\\\n)|\\r(?=\\n)", "");
+        return CARRIAGE_RETURN.matcher(text).replaceAll("");
     }
 
-    private static class HeaderVisitor extends JavaIsoVisitor<ExecutionContext> {
-        private final List<CheckstyleViolation> violations;
-        private final String licenseHeader;
-
-        HeaderVisitor(List<CheckstyleViolation> violations, String licenseHeader) {
-            this.violations = violations;
-            this.licenseHeader = licenseHeader;
-        }
-
-        @Override
-        public J visit(Tree tree, ExecutionContext executionContext) {
-            J result = super.visit(tree, executionContext);
+    /**
+     * The header text together with the prefix it is formatted to.
+     */
+    private static final class LicenseHeader {
 
-            if (tree instanceof JavaSourceFile) {
-                JavaSourceFile sourceFile = (JavaSourceFile) tree;
-                final Path filePath = sourceFile.getSourcePath().toAbsolutePath();
-                final String currentHeader = extractCurrentHeader(sourceFile);
-                final String fixedHeader = licenseHeader + LINE_SEPARATOR + currentHeader;
+        private final String text;
 
-                if (hasViolation(filePath) && !currentHeader.startsWith(licenseHeader)) {
-
-                    sourceFile = sourceFile.withPrefix(
-                            Space.format(fixedHeader));
-                }
-                result = super.visit(sourceFile, executionContext);
-            }
-            return result;
-        }
-
-        private String extractCurrentHeader(JavaSourceFile sourceFile) {
-            return sourceFile.getComments().stream()
-                    .map(comment -> {
-                        return comment.printComment(getCursor())
-                                + toLfLineEnding(comment.getSuffix());
-                    })
-                    .collect(Collectors.joining(""));
-        }
+        private final Space prefix;
 
-        private boolean hasViolation(Path filePath) {
-            return violations.removeIf(violation -> {
-                return violation.getFilePath().endsWith(filePath);
-            });
+        private LicenseHeader(String text, Space prefix) {
+            this.text = text;
+            this.prefix = prefix;
         }
     }
 }
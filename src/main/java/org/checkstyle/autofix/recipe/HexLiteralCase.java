@@ -17,16 +17,14 @@
 
 package org.checkstyle.autofix.recipe;
 
-import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 
-import org.checkstyle.autofix.PositionHelper;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.ViolationIndex;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 
@@ -34,11 +32,13 @@ import org.openrewrite.java.tree.JavaType;
  * Fixes Checkstyle HexLiteralCase violations by replacing hexadecimal lowercase literals
  * with uppercase literals.
  */
-public class HexLiteralCase extends Recipe {
+public class HexLiteralCase extends Recipe implements CheckstyleFixer {
 
-    private final List<CheckstyleViolation> violations;
+    private static final String HEX_PREFIX = "0x";
 
-    public HexLiteralCase(List<CheckstyleViolation> violations) {
+    private final ViolationIndex violations;
+
+    public HexLiteralCase(ViolationIndex violations) {
         this.violations = violations;
     }
 
@@ -54,83 +54,62 @@ public class HexLiteralCase extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new HexLiteralCase.HexLiteralCaseVisitor();
+    public CheckstyleCheck getCheck() {
+        return CheckstyleCheck.HEX_LITERAL_CASE;
     }
 
-    private final class HexLiteralCaseVisitor extends JavaIsoVisitor<ExecutionContext> {
-
-        private static final String HEX_PREFIX = "0x";
-
-        private Path sourcePath;
-
-        @Override
-        public J.CompilationUnit visitCompilationUnit(
-                J.CompilationUnit cu, ExecutionContext executionContext) {
-            this.sourcePath = cu.getSourcePath().toAbsolutePath();
-            return super.visitCompilationUnit(cu, executionContext);
-        }
-
-        @Override
-        public J.Literal visitLiteral(J.Literal literal, ExecutionContext executionContext) {
-            J.Literal result = super.visitLiteral(literal, executionContext);
-            final String valueSource = result.getValueSource();
-
-            if (shouldProcessLiteral(result, valueSource)) {
-                final String newValueSource = convertLowercaseHexToUppercase(valueSource);
-                result = result.withValueSource(newValueSource);
-            }
-
-            return result;
-        }
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return CheckstyleFixes.createVisitor(violations, List.of(this));
+    }
 
-        /**
-         * Determines whether the given literal should be processed based on its type and format.
-         *
-         * @param literal the {@link J.Literal} node to check
-         * @param valueSource the source value of the literal as a string
-         * @return {@code true} if the literal meets the criteria for processing,
-         *     {@code false} otherwise
-         */
-        private boolean shouldProcessLiteral(J.Literal literal, String valueSource) {
-            return valueSource != null
-                    && (valueSource.startsWith(HEX_PREFIX)
-                        || valueSource.startsWith(HEX_PREFIX.toUpperCase(Locale.ROOT)))
-                    && (literal.getType() == JavaType.Primitive.Long
-                        || literal.getType() == JavaType.Primitive.Int)
-                    && isAtViolationLocation(literal);
-        }
+    @Override
+    public J.Literal visitLiteral(J.Literal literal, FixContext context) {
+        J.Literal result = literal;
+        final String valueSource = result.getValueSource();
 
-        /**
-         * Converts any lowercase hexadecimal letters (a-f) to uppercase (A-F).
-         *
-         * @param valueSource the original literal source
-         * @return a new uppercase version if modified, or {@code null} if no changes were made
-         */
-        private String convertLowercaseHexToUppercase(String valueSource) {
-            final String prefix = valueSource.substring(0, HEX_PREFIX.length());
-            String result = prefix
-                    + valueSource.substring(prefix.length()).toUpperCase(Locale.ROOT);
-
-            // Avoid extra cycle by skipping identical replacements
-            if (result.equals(valueSource)) {
-                result = valueSource;
-            }
-            return result;
+        if (shouldProcessLiteral(result, valueSource, context)) {
+            final String newValueSource = convertLowercaseHexToUppercase(valueSource);
+            result = result.withValueSource(newValueSource);
         }
 
-        private boolean isAtViolationLocation(J.Literal literal) {
-            final J.CompilationUnit cursor = getCursor().firstEnclosing(J.CompilationUnit.class);
+        return result;
+    }
 
-            final int line = PositionHelper.computeLinePosition(cursor, literal, getCursor());
-            final int column = PositionHelper.computeColumnPosition(cursor, literal, getCursor());
+    /**
+     * Determines whether the given literal should be processed based on its type and format.
+     *
+     * @param literal the {@link J.Literal} node to check
+     * @param valueSource the source value of the literal as a string
+     * @param context the context of the visited file
+     * @return {@code true} if the literal meets the criteria for processing,
+     *     {@code false} otherwise
+     */
+    private static boolean shouldProcessLiteral(J.Literal literal, String valueSource,
+                                                FixContext context) {
+        return valueSource != null
+                && (valueSource.startsWith(HEX_PREFIX)
+                    || valueSource.startsWith(HEX_PREFIX.toUpperCase(Locale.ROOT)))
+                && (literal.getType() == JavaType.Primitive.Long
+                    || literal.getType() == JavaType.Primitive.Int)
+                && context.isViolation(CheckstyleCheck.HEX_LITERAL_CASE, literal);
+    }
 
-            return violations.stream().anyMatch(violation -> {
-                final Path absolutePath = violation.getFilePath().toAbsolutePath();
-                return violation.getLine() == line
-                        && violation.getColumn() == column
-                        && absolutePath.endsWith(sourcePath);
-            });
+    /**
+     * Converts any lowercase hexadecimal letters (a-f) to uppercase (A-F).
+     *
+     * @param valueSource the original literal source
+     * @return a new uppercase version if modified, or {@code null} if no changes were made
+     */
+    private static String convertLowercaseHexToUppercase(String valueSource) {
+        final String prefix = valueSource.substring(0, HEX_PREFIX.length());
+        String result = prefix
+                + valueSource.substring(prefix.length()).toUpperCase(Locale.ROOT);
+
+        // Avoid extra cycle by skipping identical replacements
+        if (result.equals(valueSource)) {
+            result = valueSource;
         }
+        return result;
     }
 }
@@ -17,26 +17,24 @@
 
 package org.checkstyle.autofix.recipe;
 
-import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.checkstyle.autofix.PositionHelper;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.ViolationIndex;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 
-public class RedundantImport extends Recipe {
+public class RedundantImport extends Recipe implements CheckstyleFixer {
 
     private static final String JAVA_LANG_PREFIX = "java.lang.";
 
-    private final List<CheckstyleViolation> violations;
+    private final ViolationIndex violations;
 
-    public RedundantImport(List<CheckstyleViolation> violations) {
+    public RedundantImport(ViolationIndex violations) {
         this.violations = violations;
     }
 
@@ -51,77 +49,66 @@ public class RedundantImport extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new RemoveRedundantImportsVisitor();
+    public CheckstyleCheck getCheck() {
+        return CheckstyleCheck.REDUNDANT_IMPORT;
     }
 
-    private final class RemoveRedundantImportsVisitor extends JavaIsoVisitor<ExecutionContext> {
-
-        private Path sourcePath;
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return CheckstyleFixes.createVisitor(violations, List.of(this));
+    }
 
-        @Override
-        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu,
-                                                      ExecutionContext executionContext) {
+    @Override
+    public J.Import visitImport(J.Import importStatement, FixContext context) {
+        final ImportState state = context.getState(this, () -> new ImportState(context));
+        J.Import result = importStatement;
+        if (isRedundant(importStatement, state)
+                && context.consumeViolation(CheckstyleCheck.REDUNDANT_IMPORT, importStatement)) {
+            result = null;
+        }
+        return result;
+    }
 
-            this.sourcePath = cu.getSourcePath().toAbsolutePath();
+    private static boolean isRedundant(J.Import importStmt, ImportState state) {
+        final String importName = importStmt.getQualid().toString();
 
-            final Set<String> seenImports = new HashSet<>();
-            final String currentPackage = getCurrentPackage(cu);
+        boolean isRedundant = false;
 
-            return cu.withImports(
-                    cu.getImports().stream()
-                            .filter(importStmt -> {
-                                return !isRedundant(importStmt, seenImports,
-                                    currentPackage) || !isAtViolationLocation(importStmt); })
-                            .toList()
-            );
+        if (state.seenImports.contains(importName)) {
+            isRedundant = true;
         }
+        else {
+            state.seenImports.add(importName);
 
-        private boolean isRedundant(J.Import importStmt,
-                                    Set<String> seenImports, String currentPackage) {
-            final String importName = importStmt.getQualid().toString();
-
-            boolean isRedundant = false;
-
-            if (seenImports.contains(importName)) {
+            if (!importStmt.isStatic() && importName.startsWith(JAVA_LANG_PREFIX)) {
                 isRedundant = true;
             }
-            else {
-                seenImports.add(importName);
-
-                if (!importStmt.isStatic() && importName.startsWith(JAVA_LANG_PREFIX)) {
-                    isRedundant = true;
-                }
-                else if (currentPackage != null && !importStmt.isStatic()
-                        && importName.startsWith(currentPackage + ".")) {
-                    isRedundant = true;
-                }
+            else if (state.currentPackage != null && !importStmt.isStatic()
+                    && importName.startsWith(state.currentPackage + ".")) {
+                isRedundant = true;
             }
-
-            return isRedundant;
         }
 
-        private String getCurrentPackage(J.CompilationUnit compilationUnit) {
-            String currentPackage = null;
+        return isRedundant;
+    }
+
+    /**
+     * Imports seen so far in the visited file and the package of the file.
+     */
+    private static final class ImportState {
+
+        private final Set<String> seenImports = new HashSet<>();
+
+        private final String currentPackage;
+
+        private ImportState(FixContext context) {
+            final J.CompilationUnit compilationUnit = context.getCompilationUnit();
+            String packageName = null;
             if (compilationUnit.getPackageDeclaration() != null) {
-                currentPackage = compilationUnit.getPackageDeclaration()
-                        .getExpression().printTrimmed(getCursor());
+                packageName = compilationUnit.getPackageDeclaration()
+                        .getExpression().printTrimmed(context.getCursor());
             }
-            return currentPackage;
+            this.currentPackage = packageName;
         }
-
-        private boolean isAtViolationLocation(J.Import literal) {
-            final J.CompilationUnit cursor = getCursor().firstEnclosing(J.CompilationUnit.class);
-
-            final int line = PositionHelper.computeLinePosition(cursor, literal, getCursor());
-            final int column = PositionHelper.computeColumnPosition(cursor, literal, getCursor());
-            return violations.removeIf(violation -> {
-                final Path absolutePath = violation.getFilePath().toAbsolutePath();
-                return violation.getLine() == line
-                        && violation.getColumn() == column
-                        && absolutePath.endsWith(sourcePath);
-            });
-        }
-
     }
 }
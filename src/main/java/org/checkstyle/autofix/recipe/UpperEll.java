@@ -17,15 +17,13 @@
 
 package org.checkstyle.autofix.recipe;
 
-import java.nio.file.Path;
 import java.util.List;
 
-import org.checkstyle.autofix.PositionHelper;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.ViolationIndex;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 
@@ -33,11 +31,15 @@ import org.openrewrite.java.tree.JavaType;
  * Fixes Checkstyle UpperEll violations by replacing lowercase 'l' suffix
  * in long literals with uppercase 'L'.
  */
-public class UpperEll extends Recipe {
+public class UpperEll extends Recipe implements CheckstyleFixer {
 
-    private final List<CheckstyleViolation> violations;
+    private static final String LOWERCASE_L = "l";
 
-    public UpperEll(List<CheckstyleViolation> violations) {
+    private static final String UPPERCASE_L = "L";
+
+    private final ViolationIndex violations;
+
+    public UpperEll(ViolationIndex violations) {
         this.violations = violations;
     }
 
@@ -53,52 +55,28 @@ public class UpperEll extends Recipe {
     }
 
     @Override
-    public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new UpperEllVisitor();
+    public CheckstyleCheck getCheck() {
+        return CheckstyleCheck.UPPER_ELL;
     }
 
-    private final class UpperEllVisitor extends JavaIsoVisitor<ExecutionContext> {
-
-        private static final String LOWERCASE_L = "l";
-        private static final String UPPERCASE_L = "L";
-
-        private Path sourcePath;
-
-        @Override
-        public J.CompilationUnit visitCompilationUnit(
-                J.CompilationUnit cu, ExecutionContext executionContext) {
-            this.sourcePath = cu.getSourcePath().toAbsolutePath();
-            return super.visitCompilationUnit(cu, executionContext);
-        }
-
-        @Override
-        public J.Literal visitLiteral(J.Literal literal, ExecutionContext executionContext) {
-            J.Literal result = super.visitLiteral(literal, executionContext);
-            final String valueSource = result.getValueSource();
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return CheckstyleFixes.createVisitor(violations, List.of(this));
+    }
 
-            if (valueSource != null && valueSource.endsWith(LOWERCASE_L)
-                    && result.getType() == JavaType.Primitive.Long
-                    && isAtViolationLocation(result)) {
+    @Override
+    public J.Literal visitLiteral(J.Literal literal, FixContext context) {
+        J.Literal result = literal;
+        final String valueSource = result.getValueSource();
 
-                final String numericPart = valueSource.substring(0, valueSource.length() - 1);
-                result = result.withValueSource(numericPart + UPPERCASE_L);
-            }
+        if (valueSource != null && valueSource.endsWith(LOWERCASE_L)
+                && result.getType() == JavaType.Primitive.Long
+                && context.isViolation(CheckstyleCheck.UPPER_ELL, result)) {
 
-            return result;
+            final String numericPart = valueSource.substring(0, valueSource.length() - 1);
+            result = result.withValueSource(numericPart + UPPERCASE_L);
         }
 
-        private boolean isAtViolationLocation(J.Literal literal) {
-            final J.CompilationUnit cursor = getCursor().firstEnclosing(J.CompilationUnit.class);
-
-            final int line = PositionHelper.computeLinePosition(cursor, literal, getCursor());
-            final int column = PositionHelper.computeColumnPosition(cursor, literal, getCursor());
-
-            return violations.stream().anyMatch(violation -> {
-                final Path absolutePath = violation.getFilePath().toAbsolutePath();
-                return violation.getLine() == line
-                        && violation.getColumn() == column
-                        && absolutePath.endsWith(sourcePath);
-            });
-        }
+        return result;
     }
 }
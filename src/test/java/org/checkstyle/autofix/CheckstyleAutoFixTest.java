@@ -0,0 +1,98 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.Recipe;
+
+public class CheckstyleAutoFixTest {
+
+    private static final String CONFIG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<module name=\"Checker\">\n"
+            + "  <module name=\"TreeWalker\">\n"
+            + "    <module name=\"UpperEll\"/>\n"
+            + "  </module>\n"
+            + "</module>\n";
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private static String createReport(Path file, String check, int line) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<checkstyle version=\"12.1.0\">\n"
+                + "<file name=\"" + file + "\">\n"
+                + "<error line=\"" + line + "\" column=\"18\" severity=\"error\""
+                + " message=\"Violation.\""
+                + " source=\"com.puppycrawl.tools.checkstyle.checks." + check + "\"/>\n"
+                + "</file>\n"
+                + "</checkstyle>\n";
+    }
+
+    @Test
+    public void testRecipeListMemoizedUntilReportChanges() throws Exception {
+        final Path source = temporaryFolder.resolve("Test.java");
+        final Path report = temporaryFolder.resolve("checkstyle-result.xml");
+        Files.writeString(report, createReport(source, "UpperEllCheck", 2));
+        final Path config = temporaryFolder.resolve("checkstyle.xml");
+        Files.writeString(config, CONFIG);
+        final CheckstyleAutoFix recipe =
+                new CheckstyleAutoFix(report.toString(), config.toString());
+
+        final List<Recipe> first = recipe.getRecipeList();
+
+        assertEquals(1, first.size());
+        assertSame(first, recipe.getRecipeList());
+
+        Files.writeString(report, createReport(source, "UpperEllCheck", 3));
+
+        assertNotSame(first, recipe.getRecipeList());
+    }
+
+    @Test
+    public void testConfigurationNotNeededWithoutFixableViolations() throws Exception {
+        final Path report = temporaryFolder.resolve("checkstyle-result.xml");
+        Files.writeString(report,
+                createReport(temporaryFolder.resolve("Test.java"), "MagicNumberCheck", 2));
+        final CheckstyleAutoFix recipe = new CheckstyleAutoFix(report.toString(),
+                temporaryFolder.resolve("missing.xml").toString());
+
+        assertTrue(recipe.getRecipeList().isEmpty());
+    }
+
+    @Test
+    public void testConfigurationFailureRethrown() throws Exception {
+        final Path report = temporaryFolder.resolve("checkstyle-result.xml");
+        Files.writeString(report,
+                createReport(temporaryFolder.resolve("Test.java"), "UpperEllCheck", 2));
+        final CheckstyleAutoFix recipe = new CheckstyleAutoFix(report.toString(),
+                temporaryFolder.resolve("missing.xml").toString());
+
+        assertThrows(IllegalStateException.class, recipe::getRecipeList);
+    }
+}
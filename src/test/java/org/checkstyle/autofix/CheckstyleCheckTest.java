@@ -0,0 +1,60 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CheckstyleCheckTest {
+
+    @Test
+    public void testFromSourceAcceptsAllSpellings() {
+        final Optional<CheckstyleCheck> expected = Optional.of(
+                CheckstyleCheck.FINAL_LOCAL_VARIABLE);
+
+        assertEquals(expected, CheckstyleCheck.fromSource(
+                "com.puppycrawl.tools.checkstyle.checks.coding.FinalLocalVariableCheck"));
+        assertEquals(expected, CheckstyleCheck.fromSource("FinalLocalVariableCheck"));
+        assertEquals(expected, CheckstyleCheck.fromSource("FinalLocalVariable"));
+        assertEquals(expected, CheckstyleCheck.fromSource(
+                "com.puppycrawl.tools.checkstyle.checks.coding.FinalLocalVariableCheck#id"));
+    }
+
+    @Test
+    public void testFromSourceRejectsPartialNames() {
+        assertEquals(Optional.empty(), CheckstyleCheck.fromSource(""));
+        assertEquals(Optional.empty(), CheckstyleCheck.fromSource("Check"));
+        assertEquals(Optional.empty(), CheckstyleCheck.fromSource("com.puppycrawl"));
+        assertEquals(Optional.empty(), CheckstyleCheck.fromSource("LocalVariable"));
+        assertEquals(Optional.empty(), CheckstyleCheck.fromSource("LineLength"));
+    }
+
+    @Test
+    public void testFromSourceResolvesManyRuleIds() {
+        final Optional<CheckstyleCheck> expected = Optional.of(CheckstyleCheck.UPPER_ELL);
+        for (int index = 0; index < 2000; index++) {
+            assertEquals(expected, CheckstyleCheck.fromSource("UpperEll#id" + index));
+            assertEquals(Optional.empty(), CheckstyleCheck.fromSource("LineLength#id" + index));
+        }
+        assertEquals(expected, CheckstyleCheck.fromSource("UpperEll#id0"));
+        assertEquals(expected, CheckstyleCheck.fromSource("UpperEll#id1999"));
+    }
+}
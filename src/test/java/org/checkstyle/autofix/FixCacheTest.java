@@ -0,0 +1,122 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class FixCacheTest {
+
+    private static final String ORIGINAL = "class Main {\n    long value = 1l;\n}\n";
+
+    private static final String FIXED = "class Main {\n    long value = 1L;\n}\n";
+
+    private static final long MAX_SIZE = 1024 * 1024;
+
+    private static final Set<CheckstyleCheck> CHECKS = Set.of(CheckstyleCheck.UPPER_ELL);
+
+    private static final Map<CheckstyleCheck, CheckConfiguration> CONFIGURATION =
+            Map.of(CheckstyleCheck.UPPER_ELL,
+                    new CheckConfiguration(CheckstyleCheck.UPPER_ELL, Map.of(), Map.of()));
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private FileViolations createViolations(Path filePath, int column) {
+        return new ViolationIndex.Builder()
+                .add(filePath, 2, column, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL,
+                        "Should use uppercase 'L'.")
+                .build()
+                .getFileViolations(filePath);
+    }
+
+    @Test
+    public void testRestoreFixedFile() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path filePath = temporaryFolder.resolve("Main.java");
+        Files.writeString(filePath, ORIGINAL);
+        final FixCache firstRun = new FixCache(cacheDirectory, MAX_SIZE, CONFIGURATION);
+        assertTrue(firstRun.restore(List.of(createViolations(filePath, 18)), CHECKS).isEmpty());
+        Files.writeString(filePath, FIXED);
+        firstRun.store(Set.of(filePath));
+
+        Files.writeString(filePath, ORIGINAL);
+        final FixCache secondRun = new FixCache(cacheDirectory, MAX_SIZE, CONFIGURATION);
+        final FileViolations violations = createViolations(filePath, 18);
+
+        assertEquals(Set.of(filePath), secondRun.restore(List.of(violations), CHECKS));
+        assertEquals(FIXED, Files.readString(filePath));
+        assertFalse(violations.hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testMissWhenViolationsChange() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path filePath = temporaryFolder.resolve("Main.java");
+        Files.writeString(filePath, ORIGINAL);
+        final FixCache firstRun = new FixCache(cacheDirectory, MAX_SIZE, CONFIGURATION);
+        firstRun.restore(List.of(createViolations(filePath, 18)), CHECKS);
+        firstRun.store(Set.of());
+
+        final FixCache secondRun = new FixCache(cacheDirectory, MAX_SIZE, CONFIGURATION);
+        final FileViolations unchanged = createViolations(filePath, 18);
+        final FileViolations moved = createViolations(filePath, 17);
+
+        assertTrue(secondRun.restore(List.of(unchanged, moved), CHECKS).isEmpty());
+        assertFalse(unchanged.hasViolations(CheckstyleCheck.UPPER_ELL));
+        assertTrue(moved.hasViolations(CheckstyleCheck.UPPER_ELL));
+        assertEquals(ORIGINAL, Files.readString(filePath));
+    }
+
+    @Test
+    public void testEvictBeyondSizeBound() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path filePath = temporaryFolder.resolve("Main.java");
+        Files.writeString(filePath, ORIGINAL);
+        final FixCache cache = new FixCache(cacheDirectory, 0, CONFIGURATION);
+        cache.restore(List.of(createViolations(filePath, 18)), CHECKS);
+        cache.store(Set.of());
+        assertEquals(1, countEntries(cacheDirectory));
+
+        cache.evict();
+
+        assertEquals(0, countEntries(cacheDirectory));
+    }
+
+    private static long countEntries(Path directory) throws Exception {
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries.count();
+        }
+    }
+}
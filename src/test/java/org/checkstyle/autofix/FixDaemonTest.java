@@ -0,0 +1,150 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FixDaemonTest {
+
+    private static final String ORIGINAL = "class Reported {\n    long value = 1l;\n}\n";
+
+    private static final String FIXED = "class Reported {\n    long value = 1L;\n}\n";
+
+    private static final String CONFIG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<module name=\"Checker\">\n"
+            + "  <module name=\"TreeWalker\">\n"
+            + "    <module name=\"UpperEll\"/>\n"
+            + "  </module>\n"
+            + "</module>\n";
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private static final long POLL_MILLIS = 10;
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private Path reported;
+
+    private Path report;
+
+    private Path config;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        reported = temporaryFolder.resolve("Reported.java");
+        Files.writeString(reported, ORIGINAL);
+        report = temporaryFolder.resolve("checkstyle-result.xml");
+        Files.writeString(report, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<checkstyle version=\"12.1.0\">\n"
+                + "<file name=\"" + reported + "\">\n"
+                + "<error line=\"2\" column=\"18\" severity=\"error\""
+                + " message=\"Should use uppercase &apos;L&apos;.\""
+                + " source=\"com.puppycrawl.tools.checkstyle.checks.UpperEllCheck\"/>\n"
+                + "</file>\n"
+                + "</checkstyle>\n");
+        config = temporaryFolder.resolve("checkstyle.xml");
+        Files.writeString(config, CONFIG);
+    }
+
+    @Test
+    public void testRepeatedRequestsUseFreshViolations() throws Exception {
+        final FixDaemon daemon = new FixDaemon(temporaryFolder.resolve("daemon.sock"),
+                config.toString(), null, Set.of());
+
+        assertEquals(List.of(reported), daemon.fix(report.toString(), List.of()));
+        assertEquals(FIXED, Files.readString(reported));
+
+        Files.writeString(reported, ORIGINAL);
+        assertEquals(List.of(reported), daemon.fix(report.toString(), List.of(reported)));
+        assertEquals(FIXED, Files.readString(reported));
+        assertEquals(List.of(), daemon.fix(report.toString(),
+                List.of(temporaryFolder.resolve("Other.java"))));
+    }
+
+    @Test
+    public void testFixThroughSocket() throws Exception {
+        final Path socket = temporaryFolder.resolve("daemon.sock");
+        final FixDaemon daemon = new FixDaemon(socket, config.toString(), null, Set.of());
+        final Thread serving = new Thread(() -> {
+            try {
+                daemon.serve();
+            }
+            catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+        serving.start();
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!Files.exists(socket) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+        }
+
+        final String failed = sendRaw(socket, report + "\nInvalid\u0000.java\n");
+        final List<Path> changed = FixClient.send(socket, report.toString(), List.of(reported));
+        daemon.close();
+        serving.join(TIMEOUT_MILLIS);
+
+        assertTrue(failed.startsWith(FixDaemon.ERROR), failed);
+        assertEquals(List.of(reported), changed);
+        assertEquals(FIXED, Files.readString(reported));
+    }
+
+    @Test
+    public void testRegularFileAtSocketPathKept() throws Exception {
+        final Path socket = temporaryFolder.resolve("daemon.sock");
+        Files.writeString(socket, ORIGINAL);
+        final FixDaemon daemon = new FixDaemon(socket, config.toString(), null, Set.of());
+
+        assertThrows(FileAlreadyExistsException.class, daemon::serve);
+        assertEquals(ORIGINAL, Files.readString(socket));
+    }
+
+    private static String sendRaw(Path socket, String request) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            final OutputStream output = Channels.newOutputStream(channel);
+            output.write(request.getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            channel.shutdownOutput();
+            final InputStream input = Channels.newInputStream(channel);
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MainTest {
+
+    private static final String CONFIG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<module name=\"Checker\">\n"
+            + "  <module name=\"TreeWalker\">\n"
+            + "    <module name=\"UpperEll\"/>\n"
+            + "  </module>\n"
+            + "</module>\n";
+
+    @TempDir
+    private Path temporaryFolder;
+
+    @Test
+    public void testFixOnlyReportedFiles() throws Exception {
+        final Path reported = temporaryFolder.resolve("Reported.java");
+        final Path unreported = temporaryFolder.resolve("Unreported.java");
+        Files.writeString(reported, "class Reported {\n    long value = 1l;\n}\n");
+        Files.writeString(unreported, "class Unreported {\n    long value = 1l;\n}\n");
+        final Path report = temporaryFolder.resolve("checkstyle-result.xml");
+        Files.writeString(report, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<checkstyle version=\"12.1.0\">\n"
+                + "<file name=\"" + reported + "\">\n"
+                + "<error line=\"2\" column=\"18\" severity=\"error\""
+                + " message=\"Should use uppercase &apos;L&apos;.\""
+                + " source=\"com.puppycrawl.tools.checkstyle.checks.UpperEllCheck\"/>\n"
+                + "</file>\n"
+                + "<file name=\"" + temporaryFolder.resolve("Deleted.java") + "\">\n"
+                + "<error line=\"1\" column=\"1\" severity=\"error\""
+                + " message=\"Should use uppercase &apos;L&apos;.\""
+                + " source=\"com.puppycrawl.tools.checkstyle.checks.UpperEllCheck\"/>\n"
+                + "</file>\n"
+                + "</checkstyle>\n");
+        final Path config = temporaryFolder.resolve("checkstyle.xml");
+        Files.writeString(config, CONFIG);
+
+        final int changed = Main.run("--report", report.toString(),
+                "--config", config.toString());
+
+        assertEquals(1, changed);
+        assertEquals("class Reported {\n    long value = 1L;\n}\n", Files.readString(reported));
+        assertEquals("class Unreported {\n    long value = 1l;\n}\n",
+                Files.readString(unreported));
+    }
+
+    @Test
+    public void testMissingConfigOption() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Main.run("--report", "checkstyle-result.xml"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Main.run("--report"));
+    }
+}
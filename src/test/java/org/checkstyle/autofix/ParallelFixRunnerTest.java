@@ -0,0 +1,77 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.recipe.CheckstyleFixes;
+import org.checkstyle.autofix.recipe.UpperEll;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class ParallelFixRunnerTest {
+
+    private static final int FILE_COUNT = 64;
+
+    private static final int LITERAL_COLUMN = 18;
+
+    private static final int POOL_SIZE = 4;
+
+    @Test
+    public void testFixFilesConcurrently() {
+        final ViolationIndex.Builder builder = new ViolationIndex.Builder();
+        final List<String> sources = new ArrayList<>();
+        for (int index = 0; index < FILE_COUNT; index++) {
+            sources.add("class Test" + index + " {\n    long value = 1l;\n}\n");
+            builder.add(Path.of("Test" + index + ".java"), 2, LITERAL_COLUMN,
+                    SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "message");
+        }
+        final ViolationIndex violations = builder.build();
+        final ExecutionContext executionContext = new InMemoryExecutionContext();
+        final List<SourceFile> sourceFiles = JavaParser.fromJavaVersion().build()
+                .parse(executionContext, sources.toArray(String[]::new))
+                .toList();
+
+        final ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            final List<SourceFile> fixed = new ParallelFixRunner(
+                    new CheckstyleFixes(violations, List.of(new UpperEll(violations))), pool)
+                    .run(sourceFiles, executionContext);
+
+            assertEquals(FILE_COUNT, fixed.size());
+            for (int index = 0; index < FILE_COUNT; index++) {
+                assertEquals("class Test" + index + " {\n    long value = 1L;\n}\n",
+                        fixed.get(index).printAll());
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+}
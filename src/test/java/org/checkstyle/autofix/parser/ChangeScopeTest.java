@@ -0,0 +1,140 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class ChangeScopeTest {
+
+    private static final String MESSAGE = "message";
+
+    private static final Path MAIN = Path.of("src", "Main.java");
+
+    private static final Path UTILS = Path.of("src", "Utils.java");
+
+    @TempDir
+    private Path temporaryFolder;
+
+    @Test
+    public void testFilterByDiffHunks() throws Exception {
+        final Path diff = temporaryFolder.resolve("changes.diff");
+        Files.write(diff, List.of(
+                "diff --git a/src/Main.java b/src/Main.java",
+                "--- a/src/Main.java",
+                "+++ b/src/Main.java",
+                "@@ -3 +3 @@ public class Main {",
+                "-    long value = 1l;",
+                "+    long value = 2l;",
+                "@@ -10,0 +11,2 @@",
+                "+    int first;",
+                "+    int second;",
+                "@@ -20,2 +22,0 @@",
+                "-    int removed;",
+                "-    int alsoRemoved;",
+                "diff --git a/src/Removed.java b/src/Removed.java",
+                "--- a/src/Removed.java",
+                "+++ /dev/null",
+                "@@ -1 +0,0 @@",
+                "-class Removed {}"));
+        final ViolationIndex violations = new ViolationIndex.Builder()
+                .add(MAIN, 3, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(MAIN, 5, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(MAIN, 12, 5, SeverityLevel.ERROR,
+                        CheckstyleCheck.FINAL_LOCAL_VARIABLE, MESSAGE)
+                .add(MAIN, 22, 5, SeverityLevel.ERROR,
+                        CheckstyleCheck.FINAL_LOCAL_VARIABLE, MESSAGE)
+                .add(UTILS, 1, -1, SeverityLevel.ERROR, CheckstyleCheck.HEADER, MESSAGE)
+                .build();
+
+        final ChangeScope scope = ChangeScope.load(diff.toString());
+        final ViolationIndex filtered = scope.filter(violations);
+
+        assertTrue(scope.containsFile(MAIN.toAbsolutePath()));
+        assertFalse(scope.containsFile(UTILS));
+        assertFalse(scope.containsFile(Path.of("src", "Removed.java")));
+        final FileViolations main = filtered.getFileViolations(MAIN);
+        assertEquals(2, main.size());
+        assertTrue(main.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertTrue(main.contains(CheckstyleCheck.FINAL_LOCAL_VARIABLE, 12, 5));
+        assertEquals(0, filtered.getFileViolations(UTILS).size());
+    }
+
+    @Test
+    public void testQuotedPathAndHunkLineLikeFileHeader() {
+        final Path quoted = Path.of("src", "Say\"Hi\"\tNow.java");
+        final ChangeScope scope = ChangeScope.parse(List.of(
+                "diff --git \"a/src/Say\\\"Hi\\\"\\tNow.java\" \"b/src/Say\\\"Hi\\\"\\tNow.java\"",
+                "--- \"a/src/Say\\\"Hi\\\"\\tNow.java\"",
+                "+++ \"b/src/Say\\\"Hi\\\"\\tNow.java\"",
+                "@@ -1 +2,2 @@",
+                "--- removed;",
+                "+++ counter;",
+                "+    int second;",
+                "@@ -5 +7 @@",
+                "-    long value = 1l;",
+                "+    long value = 2l;"));
+        final ViolationIndex violations = new ViolationIndex.Builder()
+                .add(quoted, 3, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(quoted, 5, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(quoted, 7, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .build();
+
+        assertEquals(1, scope.getFiles().size());
+        assertTrue(scope.containsFile(quoted));
+        final FileViolations filtered = scope.filter(violations).getFileViolations(quoted);
+        assertEquals(2, filtered.size());
+        assertTrue(filtered.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertTrue(filtered.contains(CheckstyleCheck.UPPER_ELL, 7, 17));
+    }
+
+    @Test
+    public void testChangedFileListKeepsEveryLine() throws Exception {
+        final Path list = temporaryFolder.resolve("changed-files.txt");
+        Files.write(list, List.of(UTILS.toString(), ""));
+        final ViolationIndex violations = new ViolationIndex.Builder()
+                .add(MAIN, 3, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(UTILS, 1, -1, SeverityLevel.ERROR, CheckstyleCheck.HEADER, MESSAGE)
+                .add(UTILS, 40, 9, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .build();
+
+        final ViolationIndex filtered = ChangeScope.load(list.toString()).filter(violations);
+
+        assertEquals(2, filtered.getFileViolations(UTILS).size());
+        assertTrue(filtered.getFileViolations(UTILS).hasViolations(CheckstyleCheck.HEADER));
+        assertFalse(filtered.getFileViolations(MAIN).hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testMissingScopeFile() {
+        final String missing = temporaryFolder.resolve("missing.diff").toString();
+        assertThrows(IllegalArgumentException.class, () -> ChangeScope.load(missing));
+    }
+}
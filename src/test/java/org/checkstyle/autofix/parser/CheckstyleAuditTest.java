@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+
+public class CheckstyleAuditTest {
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private static DefaultConfiguration createConfiguration() {
+        final DefaultConfiguration treeWalker = new DefaultConfiguration("TreeWalker");
+        treeWalker.addChild(new DefaultConfiguration("UpperEll"));
+        treeWalker.addChild(new DefaultConfiguration("MagicNumber"));
+        treeWalker.addChild(new DefaultConfiguration("SuppressWarningsHolder"));
+        final DefaultConfiguration checker = new DefaultConfiguration("Checker");
+        checker.addProperty("charset", "UTF-8");
+        checker.addProperty("cacheFile", "target/checkstyle-cache");
+        checker.addChild(treeWalker);
+        checker.addChild(new DefaultConfiguration("SuppressWarningsFilter"));
+        checker.addChild(new DefaultConfiguration("NewlineAtEndOfFile"));
+        return checker;
+    }
+
+    @Test
+    public void testPruneUnsupportedChecks() throws Exception {
+        final Configuration pruned = CheckstyleAudit.prune(createConfiguration());
+
+        assertEquals("UTF-8", pruned.getProperty("charset"));
+        assertFalse(Arrays.asList(pruned.getPropertyNames()).contains("cacheFile"));
+        assertEquals(2, pruned.getChildren().length);
+        final Configuration treeWalker = pruned.getChildren()[0];
+        assertEquals("TreeWalker", treeWalker.getName());
+        assertEquals(2, treeWalker.getChildren().length);
+        assertEquals("UpperEll", treeWalker.getChildren()[0].getName());
+        assertEquals("SuppressWarningsHolder", treeWalker.getChildren()[1].getName());
+        assertEquals("SuppressWarningsFilter", pruned.getChildren()[1].getName());
+    }
+
+    @Test
+    public void testAuditInBatches() throws Exception {
+        final List<Path> files = new ArrayList<>();
+        for (int index = 0; index < 100; index++) {
+            final Path file = temporaryFolder.resolve("Test" + index + ".java");
+            Files.writeString(file, "class Test" + index + " {\n    long value = 1l;\n}\n");
+            files.add(file);
+        }
+        final Path suppressed = temporaryFolder.resolve("Suppressed.java");
+        Files.writeString(suppressed, "@SuppressWarnings(\"UpperEll\")\n"
+                + "class Suppressed {\n    long value = 1l;\n}\n");
+        files.add(suppressed);
+
+        final ViolationIndex violations =
+                CheckstyleAudit.audit(createConfiguration(), files);
+
+        assertEquals(100, violations.getFiles().size());
+        final FileViolations first = violations.getFileViolations(files.get(0));
+        assertEquals(1, first.size());
+        assertTrue(first.contains(CheckstyleCheck.UPPER_ELL, 2, 18));
+        assertFalse(violations.getFileViolations(suppressed)
+                .hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+}
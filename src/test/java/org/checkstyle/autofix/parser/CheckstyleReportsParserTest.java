@@ -20,18 +20,24 @@ package org.checkstyle.autofix.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Iterator;
 
 import org.checkstyle.autofix.CheckstyleCheck;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
 
 public class CheckstyleReportsParserTest {
 
     private final ReportParser reportParser = new XmlReportParser();
 
+    @TempDir
+    private Path temporaryFolder;
+
     private static String getPath(String path) {
         return "src/test/resources/org/checkstyle/autofix/parser/" + path;
     }
@@ -39,40 +45,139 @@ public class CheckstyleReportsParserTest {
     @Test
     public void testParseFromResource() throws Exception {
         final Path xmlPath = Path.of(getPath("checkstyle-report.xml"));
-        final List<CheckstyleViolation> records = reportParser.parse(xmlPath);
+        final ViolationIndex records = reportParser.parse(xmlPath);
 
         assertNotNull(records);
-        assertEquals(1, records.size());
-
-        final CheckstyleViolation record = records.get(0);
-        assertEquals(42, record.getLine());
-        assertEquals(13, record.getColumn());
-        assertEquals("error", record.getSeverity());
-        assertEquals("Example message", record.getMessage());
-        assertEquals(CheckstyleCheck.UPPER_ELL, record.getSource());
+        assertEquals(1, records.getFiles().size());
+
+        final FileViolations record = records.getFiles().iterator().next();
+        assertEquals(1, record.size());
+        assertEquals(42, record.getLine(0));
+        assertEquals(13, record.getColumn(0));
+        assertEquals(SeverityLevel.ERROR, record.getSeverity(0));
+        assertEquals("Example message", record.getMessage(0));
+        assertEquals(CheckstyleCheck.UPPER_ELL, record.getCheck(0));
         assertEquals(Path.of("Example.java"), record.getFilePath());
     }
 
     @Test
     public void testParseMultipleFilesReport() throws Exception {
         final Path xmlPath = Path.of(getPath("checkstyle-multiple-files.xml"));
-        final List<CheckstyleViolation> records = reportParser.parse(xmlPath);
+        final ViolationIndex records = reportParser.parse(xmlPath);
 
         assertNotNull(records);
-        assertEquals(3, records.size());
+        assertEquals(2, records.getFiles().size());
+
+        final FileViolations main = records.getFileViolations(Path.of("Main.java"));
+        final FileViolations utils = records.getFileViolations(Path.of("Utils.java"));
 
-        final Map<Path, List<CheckstyleViolation>> grouped = records.stream()
-                .collect(Collectors.groupingBy(CheckstyleViolation::getFilePath));
+        assertEquals(2, main.size());
+        assertEquals(1, utils.size());
 
-        assertEquals(2, grouped.size());
+        assertEquals(SeverityLevel.ERROR, main.getSeverity(0));
+        assertEquals(SeverityLevel.WARNING, utils.getSeverity(0));
+    }
 
-        assertEquals(2, grouped.get(Path.of("Main.java")).size());
-        assertEquals(1, grouped.get(Path.of("Utils.java")).size());
+    @Test
+    public void testParseSkipsUnsupportedChecks() throws Exception {
+        final Path xmlPath = Path.of(getPath("checkstyle-unsupported-checks.xml"));
+        final ViolationIndex records = reportParser.parse(xmlPath);
+
+        assertEquals(1, records.getFiles().size());
+
+        final FileViolations record = records.getFiles().iterator().next();
+        assertEquals(1, record.size());
+        assertEquals(5, record.getLine(0));
+        assertEquals(-1, record.getColumn(0));
+        assertEquals(CheckstyleCheck.REDUNDANT_IMPORT, record.getCheck(0));
+        assertEquals(Path.of("Main.java"), record.getFilePath());
+    }
+
+    @Test
+    public void testParseSarifMultipleRuns() throws Exception {
+        final Path sarifPath = Path.of(getPath("checkstyle-multiple-runs.sarif"));
+        final ViolationIndex records = new SarifReportParser().parse(sarifPath);
+
+        assertEquals(2, records.getFiles().size());
+
+        final Iterator<FileViolations> files = records.getFiles().iterator();
+        final FileViolations upperEll = files.next();
+        assertEquals(1, upperEll.size());
+        assertEquals(3, upperEll.getLine(0));
+        assertEquals(17, upperEll.getColumn(0));
+        assertEquals(SeverityLevel.ERROR, upperEll.getSeverity(0));
+        assertEquals("Should use uppercase 'L'.", upperEll.getMessage(0));
+        assertEquals(CheckstyleCheck.UPPER_ELL, upperEll.getCheck(0));
+        assertEquals(Path.of("Main.java"), upperEll.getFilePath());
+
+        final FileViolations header = files.next();
+        assertEquals(1, header.size());
+        assertEquals(1, header.getLine(0));
+        assertEquals(-1, header.getColumn(0));
+        assertEquals(SeverityLevel.WARNING, header.getSeverity(0));
+        assertEquals(CheckstyleCheck.HEADER, header.getCheck(0));
+        assertEquals(Path.of("Utils.java"), header.getFilePath());
+    }
+
+    @Test
+    public void testParseLargeReportInChunks() throws Exception {
+        final int fileCount = 20_000;
+        final Path xmlPath = temporaryFolder.resolve("large-report.xml");
+        Files.write(xmlPath, createReport(fileCount, "Should use uppercase &apos;L&apos;.",
+                "UTF-8").getBytes(StandardCharsets.UTF_8));
 
-        CheckstyleViolation record = grouped.get(Path.of("Main.java")).get(0);
-        assertEquals("error", record.getSeverity());
+        assertChunkedEqualsSequential(xmlPath, fileCount, "Should use uppercase 'L'.");
+    }
+
+    @Test
+    public void testParseLargeLatin1ReportInChunks() throws Exception {
+        final int fileCount = 20_000;
+        final Path xmlPath = temporaryFolder.resolve("large-report-latin1.xml");
+        Files.write(xmlPath, createReport(fileCount, "Utiliser un \u00ab L \u00bb majuscule.",
+                "ISO-8859-1").getBytes(StandardCharsets.ISO_8859_1));
+
+        assertChunkedEqualsSequential(xmlPath, fileCount,
+                "Utiliser un \u00ab L \u00bb majuscule.");
+    }
+
+    @Test
+    public void testParseUtf16ReportWithoutChunks() throws Exception {
+        final int fileCount = 100;
+        final Path xmlPath = temporaryFolder.resolve("report-utf16.xml");
+        Files.write(xmlPath, createReport(fileCount, "Should use uppercase &apos;L&apos;.",
+                "UTF-16").getBytes(StandardCharsets.UTF_16));
+
+        assertChunkedEqualsSequential(xmlPath, fileCount, "Should use uppercase 'L'.");
+    }
+
+    private static String createReport(int fileCount, String message, String encoding) {
+        final StringBuilder report = new StringBuilder("<?xml version=\"1.0\" encoding=\"")
+                .append(encoding).append("\"?>\n<checkstyle version=\"12.1.0\">\n");
+        for (int index = 0; index < fileCount; index++) {
+            report.append("<file name=\"File").append(index).append(".java\">\n")
+                    .append("<error line=\"").append(index + 1)
+                    .append("\" column=\"17\" severity=\"warning\" message=\"")
+                    .append(message).append("\" source=\"")
+                    .append("com.puppycrawl.tools.checkstyle.checks.UpperEllCheck\"/>\n")
+                    .append("</file>\n");
+        }
+        return report.append("</checkstyle>\n").toString();
+    }
 
-        record = grouped.get(Path.of("Utils.java")).get(0);
-        assertEquals("warning", record.getSeverity());
+    private void assertChunkedEqualsSequential(Path xmlPath, int fileCount,
+                                               String message) {
+        final ViolationIndex sequential = reportParser.parse(xmlPath);
+        final ViolationIndex chunked = new XmlReportParser(0).parse(xmlPath);
+
+        assertEquals(fileCount, chunked.getFiles().size());
+        final Iterator<FileViolations> expectedFiles = sequential.getFiles().iterator();
+        for (FileViolations actual : chunked.getFiles()) {
+            final FileViolations expected = expectedFiles.next();
+            assertEquals(expected.getFilePath(), actual.getFilePath());
+            assertEquals(1, actual.size());
+            assertEquals(expected.getLine(0), actual.getLine(0));
+            assertEquals(SeverityLevel.WARNING, actual.getSeverity(0));
+            assertEquals(message, actual.getMessage(0));
+        }
     }
 }
@@ -0,0 +1,132 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ConfigurationCacheTest {
+
+    private static final String HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<!DOCTYPE module PUBLIC \"-//Checkstyle//DTD Checkstyle Configuration 1.3//EN\"\n"
+            + "        \"https://checkstyle.org/dtds/configuration_1_3.dtd\">\n"
+            + "<module name=\"Checker\">\n"
+            + "  <module name=\"TreeWalker\">\n";
+
+    private static final String FOOTER = "  </module>\n</module>\n";
+
+    private static final String UPPER_ELL = HEADER
+            + "    <module name=\"UpperEll\"/>\n" + FOOTER;
+
+    private static final String HEX_LITERAL_CASE = HEADER
+            + "    <module name=\"HexLiteralCase\"/>\n" + FOOTER;
+
+    @TempDir
+    private Path temporaryFolder;
+
+    @Test
+    public void testLocalConfigurationReloadedWhenChanged() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path config = temporaryFolder.resolve("checkstyle.xml");
+        final Path properties = temporaryFolder.resolve("checkstyle.properties");
+        Files.writeString(config, UPPER_ELL.replace("\"UpperEll\"/>",
+                "\"UpperEll\">\n      <property name=\"severity\" value=\"${level}\"/>\n"
+                        + "    </module>"));
+        Files.writeString(properties, "level=warning\n");
+
+        final Map<CheckstyleCheck, CheckConfiguration> loaded = ConfigurationCache.load(
+                cacheDirectory, Duration.ZERO, config.toString(), properties.toString());
+        final Map<CheckstyleCheck, CheckConfiguration> cached = ConfigurationCache.load(
+                cacheDirectory, Duration.ZERO, config.toString(), properties.toString());
+
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), loaded.keySet());
+        assertEquals(loaded.get(CheckstyleCheck.UPPER_ELL).getProperties(),
+                cached.get(CheckstyleCheck.UPPER_ELL).getProperties());
+        assertEquals("warning", cached.get(CheckstyleCheck.UPPER_ELL).getProperty("severity"));
+
+        Files.writeString(config, HEX_LITERAL_CASE);
+        assertEquals(Set.of(CheckstyleCheck.HEX_LITERAL_CASE), ConfigurationCache.load(
+                cacheDirectory, Duration.ZERO, config.toString(), properties.toString())
+                .keySet());
+    }
+
+    @Test
+    public void testRemoteConfigurationRevalidatedAfterTimeToLive() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path config = temporaryFolder.resolve("remote-checkstyle.xml");
+        final Path properties = temporaryFolder.resolve("checkstyle.properties");
+        final String url = config.toUri().toString();
+        Files.writeString(config, UPPER_ELL);
+        Files.writeString(properties, "");
+
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), ConfigurationCache.load(
+                cacheDirectory, Duration.ofHours(1), url, properties.toString()).keySet());
+
+        Files.writeString(config, HEX_LITERAL_CASE);
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), ConfigurationCache.load(
+                cacheDirectory, Duration.ofHours(1), url, properties.toString()).keySet());
+        assertEquals(Set.of(CheckstyleCheck.HEX_LITERAL_CASE), ConfigurationCache.load(
+                cacheDirectory, Duration.ZERO, url, properties.toString()).keySet());
+
+        Files.delete(config);
+        assertEquals(Set.of(CheckstyleCheck.HEX_LITERAL_CASE), ConfigurationCache.load(
+                cacheDirectory, Duration.ZERO, url, properties.toString()).keySet());
+    }
+
+    @Test
+    public void testCorruptEntryIgnored() throws Exception {
+        final Path cacheDirectory = temporaryFolder.resolve("cache");
+        final Path config = temporaryFolder.resolve("checkstyle.xml");
+        final Path properties = temporaryFolder.resolve("checkstyle.properties");
+        Files.writeString(config, UPPER_ELL);
+        Files.writeString(properties, "");
+        ConfigurationCache.load(cacheDirectory, Duration.ZERO, config.toString(),
+                properties.toString());
+        final Path cachePath;
+        try (Stream<Path> entries = Files.list(cacheDirectory)) {
+            cachePath = entries.findFirst().orElseThrow();
+        }
+
+        for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.write(Files.readAllBytes(cachePath), 0, 2 * Integer.BYTES
+                        + 2 * Long.BYTES);
+                output.writeInt(1);
+                output.writeInt(length);
+            }
+            Files.write(cachePath, bytes.toByteArray());
+
+            assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), ConfigurationCache.load(
+                    cacheDirectory, Duration.ZERO, config.toString(), properties.toString())
+                    .keySet());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+
+public class ConfigurationLoaderTest {
+
+    private static DefaultConfiguration createConfiguration() {
+        final DefaultConfiguration upperEll = new DefaultConfiguration("UpperEll");
+        upperEll.addProperty("severity", "warning");
+        final DefaultConfiguration treeWalker = new DefaultConfiguration("TreeWalker");
+        treeWalker.addProperty("tabWidth", "4");
+        treeWalker.addProperty("charset", "ISO-8859-1");
+        treeWalker.addChild(upperEll);
+        treeWalker.addChild(new DefaultConfiguration("HexLiteralCase"));
+        final DefaultConfiguration header = new DefaultConfiguration("Header");
+        header.addProperty("header", "// header");
+        final DefaultConfiguration checker = new DefaultConfiguration("Checker");
+        checker.addProperty("charset", "UTF-8");
+        checker.addChild(treeWalker);
+        checker.addChild(header);
+        return checker;
+    }
+
+    @Test
+    public void testMapOnlyRequestedChecks() {
+        final Map<CheckstyleCheck, CheckConfiguration> mapped =
+                ConfigurationLoader.mapConfiguration(createConfiguration(),
+                        Set.of(CheckstyleCheck.UPPER_ELL, CheckstyleCheck.FINAL_LOCAL_VARIABLE));
+
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), mapped.keySet());
+        final CheckConfiguration upperEll = mapped.get(CheckstyleCheck.UPPER_ELL);
+        assertEquals("warning", upperEll.getProperty("severity"));
+        assertEquals("4", upperEll.getProperty("tabWidth"));
+        assertEquals("UTF-8", upperEll.getProperty("charset"));
+        assertTrue(upperEll.hasProperty("tabWidth"));
+        assertFalse(upperEll.hasProperty("header"));
+        assertEquals(Map.of("severity", "warning", "tabWidth", "4", "charset", "UTF-8"),
+                upperEll.getProperties());
+    }
+
+    @Test
+    public void testMapNoChecks() {
+        assertTrue(ConfigurationLoader.mapConfiguration(createConfiguration(), Set.of())
+                .isEmpty());
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL, CheckstyleCheck.HEX_LITERAL_CASE,
+                CheckstyleCheck.HEADER),
+                ConfigurationLoader.mapConfiguration(createConfiguration()).keySet());
+    }
+}
@@ -0,0 +1,119 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class ViolationIndexCacheTest {
+
+    private static final ReportParser FAILING_PARSER = (reportPath, violations) -> {
+        throw new AssertionError("Report should be read from the cache: " + reportPath);
+    };
+
+    @TempDir
+    private Path temporaryFolder;
+
+    @Test
+    public void testCachedIndexMatchesParsedIndex() throws Exception {
+        final Path reportPath = temporaryFolder.resolve("checkstyle-multiple-files.xml");
+        Files.copy(Path.of("src/test/resources/org/checkstyle/autofix/parser/"
+                + "checkstyle-multiple-files.xml"), reportPath);
+
+        final ViolationIndex parsed =
+                ViolationIndexCache.load(reportPath, new XmlReportParser());
+        assertTrue(Files.isRegularFile(ViolationIndexCache.getCachePath(reportPath)));
+
+        final ViolationIndex cached = ViolationIndexCache.load(reportPath, FAILING_PARSER);
+        assertEquals(parsed.getChecks(), cached.getChecks());
+        assertEquals(parsed.getFiles().size(), cached.getFiles().size());
+        for (FileViolations expected : parsed.getFiles()) {
+            final FileViolations actual = cached.getFileViolations(expected.getFilePath());
+            assertEquals(expected.getFilePath(), actual.getFilePath());
+            assertEquals(expected.size(), actual.size());
+            for (int row = 0; row < expected.size(); row++) {
+                assertEquals(expected.getCheck(row), actual.getCheck(row));
+                assertEquals(expected.getLine(row), actual.getLine(row));
+                assertEquals(expected.getColumn(row), actual.getColumn(row));
+                assertEquals(expected.getSeverity(row), actual.getSeverity(row));
+                assertEquals(expected.getMessage(row), actual.getMessage(row));
+                assertTrue(actual.contains(actual.getCheck(row), actual.getLine(row),
+                        actual.getColumn(row)));
+            }
+        }
+    }
+
+    @Test
+    public void testChangedReportIsParsedAgain() throws Exception {
+        final Path reportPath = temporaryFolder.resolve("report.xml");
+        Files.writeString(reportPath, "first");
+        final Path sourcePath = Path.of("Main.java");
+        ViolationIndexCache.load(reportPath, (path, violations) -> {
+            violations.add(sourcePath, 1, 1, SeverityLevel.ERROR,
+                    CheckstyleCheck.UPPER_ELL, "first");
+        });
+
+        Files.writeString(reportPath, "second report");
+        final ViolationIndex reparsed = ViolationIndexCache.load(reportPath,
+                (path, violations) -> {
+                    violations.add(sourcePath, 2, 1, SeverityLevel.ERROR,
+                            CheckstyleCheck.HEX_LITERAL_CASE, "second");
+                });
+
+        assertEquals(Set.of(CheckstyleCheck.HEX_LITERAL_CASE), reparsed.getChecks());
+        final FileViolations fileViolations = reparsed.getFileViolations(sourcePath);
+        assertTrue(fileViolations.contains(CheckstyleCheck.HEX_LITERAL_CASE, 2, 1));
+        assertFalse(fileViolations.hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testReportChangedInTheMiddleIsParsedAgain() throws Exception {
+        final Path reportPath = temporaryFolder.resolve("report.xml");
+        final byte[] content = new byte[1024 * 1024];
+        Files.write(reportPath, content);
+        final FileTime modified = Files.getLastModifiedTime(reportPath);
+        final Path sourcePath = Path.of("Main.java");
+        ViolationIndexCache.load(reportPath, (path, violations) -> {
+            violations.add(sourcePath, 1, 1, SeverityLevel.ERROR,
+                    CheckstyleCheck.UPPER_ELL, "first");
+        });
+
+        content[content.length / 2] = 1;
+        Files.write(reportPath, content);
+        Files.setLastModifiedTime(reportPath, modified);
+        final ViolationIndex reparsed = ViolationIndexCache.load(reportPath,
+                (path, violations) -> {
+                    violations.add(sourcePath, 2, 1, SeverityLevel.ERROR,
+                            CheckstyleCheck.HEX_LITERAL_CASE, "second");
+                });
+
+        assertEquals(Set.of(CheckstyleCheck.HEX_LITERAL_CASE), reparsed.getChecks());
+    }
+}
@@ -0,0 +1,164 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class ViolationIndexTest {
+
+    private static final String MESSAGE = "message";
+
+    @Test
+    public void testLookupByRelativeAndAbsolutePath() {
+        final Path relativePath = Path.of("src", "Main.java");
+        final ViolationIndex index = new ViolationIndex.Builder()
+                .add(relativePath.toAbsolutePath(), 3, 17, SeverityLevel.ERROR,
+                        CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .build();
+
+        final FileViolations relative = index.getFileViolations(relativePath);
+        final FileViolations absolute = index.getFileViolations(relativePath.toAbsolutePath());
+
+        assertTrue(relative.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertTrue(absolute.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertFalse(relative.contains(CheckstyleCheck.UPPER_ELL, 17, 3));
+        assertFalse(relative.contains(CheckstyleCheck.HEX_LITERAL_CASE, 3, 17));
+        assertFalse(index.getFileViolations(Path.of("Other.java"))
+                .hasViolations(CheckstyleCheck.UPPER_ELL));
+        assertEquals(Set.of(CheckstyleCheck.UPPER_ELL), index.getChecks());
+    }
+
+    @Test
+    public void testConsume() {
+        final Path path = Path.of("Main.java");
+        final ViolationIndex index = new ViolationIndex.Builder()
+                .add(path, 1, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, MESSAGE)
+                .add(path, 2, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, MESSAGE)
+                .add(path, 2, -1, SeverityLevel.ERROR, CheckstyleCheck.HEADER, MESSAGE)
+                .build();
+        final FileViolations violations = index.getFileViolations(path);
+
+        assertTrue(violations.consume(CheckstyleCheck.REDUNDANT_IMPORT, 1, 1));
+        assertFalse(violations.consume(CheckstyleCheck.REDUNDANT_IMPORT, 1, 1));
+        assertTrue(violations.contains(CheckstyleCheck.REDUNDANT_IMPORT, 2, 1));
+        assertTrue(violations.contains(CheckstyleCheck.HEADER, 2, -1));
+
+        assertTrue(violations.consumeAll(CheckstyleCheck.HEADER));
+        assertFalse(violations.hasViolations(CheckstyleCheck.HEADER));
+        assertTrue(violations.hasViolations(CheckstyleCheck.REDUNDANT_IMPORT));
+    }
+
+    @Test
+    public void testRowsSortedAndDeduplicated() {
+        final Path path = Path.of("Main.java");
+        final ViolationIndex index = new ViolationIndex.Builder()
+                .add(path, 9, 5, SeverityLevel.WARNING, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 4, 2, SeverityLevel.ERROR, CheckstyleCheck.HEADER, "header")
+                .add(path, 3, 7, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 9, 5, SeverityLevel.WARNING, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .build();
+        final FileViolations violations = index.getFileViolations(path);
+
+        assertEquals(3, violations.size());
+        assertEquals(CheckstyleCheck.HEADER, violations.getCheck(0));
+        assertEquals("header", violations.getMessage(0));
+        assertEquals(CheckstyleCheck.UPPER_ELL, violations.getCheck(1));
+        assertEquals(3, violations.getLine(1));
+        assertEquals(CheckstyleCheck.UPPER_ELL, violations.getCheck(2));
+        assertEquals(9, violations.getLine(2));
+        assertEquals(SeverityLevel.WARNING, violations.getSeverity(2));
+        assertTrue(violations.contains(CheckstyleCheck.UPPER_ELL, 9, 5));
+    }
+
+    @Test
+    public void testConcurrentConsumeClaimsEveryViolationOnce() {
+        final Path path = Path.of("Main.java");
+        final int rows = 1000;
+        final ViolationIndex.Builder builder = new ViolationIndex.Builder();
+        for (int line = 1; line <= rows; line++) {
+            builder.add(path, line, 1, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE);
+        }
+        final ViolationIndex index = builder.build();
+        final AtomicInteger consumed = new AtomicInteger();
+
+        IntStream.range(0, rows * 4).parallel().forEach(attempt -> {
+            final FileViolations violations = index.getFileViolations(path);
+            if (violations.consume(CheckstyleCheck.UPPER_ELL, attempt % rows + 1, 1)) {
+                consumed.incrementAndGet();
+            }
+        });
+
+        assertEquals(rows, consumed.get());
+        assertFalse(index.getFileViolations(path).hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testCursorMergesPositionsInSourceOrder() {
+        final Path path = Path.of("Main.java");
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(path, 7, 3, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 2, 9, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 4, 1, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 3, 5, SeverityLevel.ERROR, CheckstyleCheck.HEX_LITERAL_CASE, MESSAGE)
+                .build()
+                .getFileViolations(path);
+        final FileViolations.CheckCursor cursor = violations.cursor(CheckstyleCheck.UPPER_ELL);
+
+        assertFalse(cursor.contains(1, 1));
+        assertTrue(cursor.contains(2, 9));
+        assertFalse(cursor.contains(3, 5));
+        assertTrue(cursor.consume(7, 3));
+        assertTrue(cursor.isExhausted());
+        assertTrue(cursor.consume(4, 1));
+        assertFalse(cursor.consume(4, 1));
+        assertFalse(cursor.contains(7, 3));
+        assertTrue(cursor.contains(2, 9));
+        assertEquals(1, violations.getViolationCount(CheckstyleCheck.UPPER_ELL));
+        assertFalse(violations.cursor(CheckstyleCheck.HEX_LITERAL_CASE).isExhausted());
+    }
+
+    @Test
+    public void testCursorWithRowWithoutColumn() {
+        final Path path = Path.of("Main.java");
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(path, 2, 9, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 5, -1, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .add(path, 7, 3, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, MESSAGE)
+                .build()
+                .getFileViolations(path);
+        final FileViolations.CheckCursor cursor = violations.cursor(CheckstyleCheck.UPPER_ELL);
+
+        assertTrue(cursor.contains(5, -1));
+        assertFalse(cursor.contains(6, 1));
+        assertTrue(cursor.contains(2, 9));
+        assertTrue(cursor.contains(7, 3));
+        assertTrue(cursor.isExhausted());
+    }
+}
@@ -0,0 +1,90 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ViolationReportsTest {
+
+    private static final String RESULT_FILE = "checkstyle-result.xml";
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private static Path getResource(String fileName) {
+        return Path.of("src/test/resources/org/checkstyle/autofix/parser/" + fileName);
+    }
+
+    @Test
+    public void testMergeReportsMatchingGlob() throws Exception {
+        final Path firstModule = temporaryFolder.resolve("first/target/" + RESULT_FILE);
+        final Path secondModule = temporaryFolder.resolve("second/target/" + RESULT_FILE);
+        Files.createDirectories(firstModule.getParent());
+        Files.createDirectories(secondModule.getParent());
+        Files.copy(getResource("checkstyle-multiple-files.xml"), firstModule);
+        Files.copy(getResource("checkstyle-multiple-files.xml"), secondModule);
+        final Path sarifReport = temporaryFolder.resolve("checkstyle-multiple-runs.sarif");
+        Files.copy(getResource("checkstyle-multiple-runs.sarif"), sarifReport);
+
+        final String glob = temporaryFolder.toString() + "/**/target/" + RESULT_FILE;
+        assertEquals(List.of(firstModule, secondModule), ViolationReports.resolve(glob));
+
+        final ViolationIndex merged = ViolationReports.load(glob + " , " + sarifReport);
+
+        final FileViolations main = merged.getFileViolations(Path.of("Main.java"));
+        assertEquals(3, main.size());
+        assertTrue(main.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertTrue(main.contains(CheckstyleCheck.FINAL_LOCAL_VARIABLE, 10, 5));
+        assertEquals(2, merged.getFileViolations(Path.of("Utils.java")).size());
+        assertEquals(Set.of(CheckstyleCheck.FINAL_LOCAL_VARIABLE, CheckstyleCheck.HEADER,
+                CheckstyleCheck.UPPER_ELL), merged.getChecks());
+    }
+
+    @Test
+    public void testBraceGlobNotSplitAtItsComma() throws Exception {
+        final Path firstModule = temporaryFolder.resolve("first/target/" + RESULT_FILE);
+        final Path secondModule = temporaryFolder.resolve("second/target/" + RESULT_FILE);
+        final Path thirdModule = temporaryFolder.resolve("third/target/" + RESULT_FILE);
+        for (Path module : List.of(firstModule, secondModule, thirdModule)) {
+            Files.createDirectories(module.getParent());
+            Files.copy(getResource("checkstyle-multiple-files.xml"), module);
+        }
+
+        final String glob = temporaryFolder.toString() + "/{first,second}/target/"
+                + RESULT_FILE;
+        assertEquals(List.of(firstModule, secondModule, thirdModule),
+                ViolationReports.resolve(glob + "," + thirdModule));
+    }
+
+    @Test
+    public void testNoMatchingReport() {
+        final String glob = temporaryFolder.toString() + "/**/" + RESULT_FILE;
+        assertThrows(IllegalArgumentException.class, () -> ViolationReports.load(glob));
+    }
+}
@@ -0,0 +1,94 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.EnumSet;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.junit.jupiter.api.Test;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class LexicalFixerTest {
+
+    private static final Path PATH = Path.of("Test.java");
+
+    private static final String SOURCE = "class Test {\n"
+            + "    // long a = 1l;\n"
+            + "    String s = \"2l /* 0xffl\";\n"
+            + "    String t = \"\"\"\n"
+            + "        3l \" \\\"\"\" 0xab\n"
+            + "        \"\"\";\n"
+            + "    char c = '\\'';\n"
+            + "    long b = 4l + 0x1fl;\n"
+            + "    double d = 0x1.fp1 + 1e-5;\n"
+            + "}\n";
+
+    @Test
+    public void testFixReportedLiteralsOnly() {
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(PATH, 2, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(PATH, 3, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(PATH, 5, 9, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(PATH, 8, 14, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(PATH, 8, 19, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(PATH, 8, 19, SeverityLevel.ERROR, CheckstyleCheck.HEX_LITERAL_CASE, "")
+                .add(PATH, 9, 16, SeverityLevel.ERROR, CheckstyleCheck.HEX_LITERAL_CASE, "")
+                .build()
+                .getFileViolations(PATH);
+
+        final SourceText text = SourceText.of(SOURCE.getBytes(StandardCharsets.UTF_8));
+        final FilePatch patch = new FilePatch(violations);
+        new LexicalFixer(true, true).collectEdits(text, violations, patch);
+
+        assertEquals(SOURCE.replace("4l + 0x1fl", "4L + 0x1FL"),
+                new String(patch.apply(text), StandardCharsets.UTF_8));
+        assertFalse(patch.isComplete(EnumSet.of(CheckstyleCheck.UPPER_ELL)));
+        patch.consume();
+        assertTrue(violations.contains(CheckstyleCheck.UPPER_ELL, 2, 17));
+        assertTrue(violations.contains(CheckstyleCheck.UPPER_ELL, 3, 17));
+        assertTrue(violations.contains(CheckstyleCheck.UPPER_ELL, 5, 9));
+        assertFalse(violations.contains(CheckstyleCheck.UPPER_ELL, 8, 14));
+        assertFalse(violations.contains(CheckstyleCheck.UPPER_ELL, 8, 19));
+        assertFalse(violations.contains(CheckstyleCheck.HEX_LITERAL_CASE, 8, 19));
+        assertTrue(violations.contains(CheckstyleCheck.HEX_LITERAL_CASE, 9, 16));
+    }
+
+    @Test
+    public void testDisabledCheckIsNotFixed() {
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(PATH, 8, 14, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .build()
+                .getFileViolations(PATH);
+
+        final FilePatch patch = new FilePatch(violations);
+        new LexicalFixer(false, true).collectEdits(
+                SourceText.of(SOURCE.getBytes(StandardCharsets.UTF_8)), violations, patch);
+
+        assertTrue(patch.getEdits().isEmpty());
+        assertTrue(violations.hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+}
@@ -0,0 +1,204 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// checkstyle-openrewrite-recipes: Automatically fix Checkstyle violations with OpenRewrite.
+// Copyright (C) 2025 The Checkstyle OpenRewrite Recipes Authors
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package org.checkstyle.autofix.patch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.checkstyle.autofix.CheckstyleCheck;
+import org.checkstyle.autofix.parser.CheckConfiguration;
+import org.checkstyle.autofix.parser.FileViolations;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.puppycrawl.tools.checkstyle.api.SeverityLevel;
+
+public class PatchEngineTest {
+
+    private static final String HEADER = "// Licensed under the Apache License.";
+
+    private static final String SOURCE = "package test;\n"
+            + "\n"
+            + "import java.lang.String;\n"
+            + "import java.util.List;\n"
+            + "import java.util.List;\n"
+            + "\n"
+            + "class Test { long value = 0xffl; List<String> list; }\n";
+
+    @TempDir
+    private Path temporaryFolder;
+
+    private static Map<CheckstyleCheck, CheckConfiguration> createConfiguration() {
+        final Map<String, String> headerProperties = Map.of("header", HEADER);
+        return Map.of(
+                CheckstyleCheck.HEADER, new CheckConfiguration(CheckstyleCheck.HEADER,
+                        Map.of(), headerProperties),
+                CheckstyleCheck.UPPER_ELL, new CheckConfiguration(CheckstyleCheck.UPPER_ELL,
+                        Map.of(), Map.of()),
+                CheckstyleCheck.HEX_LITERAL_CASE, new CheckConfiguration(
+                        CheckstyleCheck.HEX_LITERAL_CASE, Map.of(), Map.of()),
+                CheckstyleCheck.REDUNDANT_IMPORT, new CheckConfiguration(
+                        CheckstyleCheck.REDUNDANT_IMPORT, Map.of(), Map.of()));
+    }
+
+    @Test
+    public void testPatchFile() throws Exception {
+        final Path file = temporaryFolder.resolve("Test.java");
+        Files.writeString(file, SOURCE);
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 1, 1, SeverityLevel.ERROR, CheckstyleCheck.HEADER, "")
+                .add(file, 3, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, "")
+                .add(file, 5, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, "")
+                .add(file, 7, 27, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(file, 7, 27, SeverityLevel.ERROR, CheckstyleCheck.HEX_LITERAL_CASE, "")
+                .build()
+                .getFileViolations(file);
+        final Map<CheckstyleCheck, CheckConfiguration> configuration = createConfiguration();
+        final PatchEngine engine = new PatchEngine(configuration, configuration.keySet());
+
+        assertTrue(engine.apply(violations, configuration.keySet()));
+
+        assertEquals(HEADER + "\n"
+                + "package test;\n"
+                + "\n"
+                + "import java.util.List;\n"
+                + "\n"
+                + "class Test { long value = 0xFFL; List<String> list; }\n",
+                Files.readString(file));
+        for (CheckstyleCheck check : configuration.keySet()) {
+            assertFalse(violations.hasViolations(check));
+        }
+    }
+
+    @Test
+    public void testIncompletePatchLeavesFileUntouched() throws Exception {
+        final Path file = temporaryFolder.resolve("Test.java");
+        final String source = SOURCE.replace("import java.lang.String;",
+                "import java.lang.String; // unused");
+        Files.writeString(file, source);
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 3, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, "")
+                .add(file, 5, 1, SeverityLevel.ERROR, CheckstyleCheck.REDUNDANT_IMPORT, "")
+                .build()
+                .getFileViolations(file);
+        final Map<CheckstyleCheck, CheckConfiguration> configuration = createConfiguration();
+
+        assertFalse(new PatchEngine(configuration, configuration.keySet())
+                .apply(violations, configuration.keySet()));
+
+        assertEquals(source, Files.readString(file));
+        assertEquals(2, violations.getViolationCount(CheckstyleCheck.REDUNDANT_IMPORT));
+    }
+
+    @Test
+    public void testLiteralInCommentLeavesFileUntouched() throws Exception {
+        final Path file = temporaryFolder.resolve("Test.java");
+        final String source = "class Test {\n    // long a = 1l;\n    long b = 2l;\n}\n";
+        Files.writeString(file, source);
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 2, 17, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .add(file, 3, 14, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .build()
+                .getFileViolations(file);
+        final Map<CheckstyleCheck, CheckConfiguration> configuration = createConfiguration();
+
+        assertFalse(new PatchEngine(configuration, configuration.keySet())
+                .apply(violations, configuration.keySet()));
+
+        assertEquals(source, Files.readString(file));
+        assertEquals(2, violations.getViolationCount(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testPatchInConfiguredCharset() throws Exception {
+        final Path file = temporaryFolder.resolve("Test.java");
+        final String source = "class Test {\n    String s = \"\u00e9\"; long b = 2l;\n}\n";
+        Files.writeString(file, source, StandardCharsets.ISO_8859_1);
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 2, 30, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .build()
+                .getFileViolations(file);
+        final Map<CheckstyleCheck, CheckConfiguration> configuration =
+                Map.of(CheckstyleCheck.UPPER_ELL, new CheckConfiguration(
+                        CheckstyleCheck.UPPER_ELL, Map.of("charset", "ISO-8859-1"), Map.of()));
+
+        assertTrue(new PatchEngine(configuration, configuration.keySet())
+                .apply(violations, configuration.keySet()));
+
+        assertEquals(source.replace("2l", "2L"),
+                Files.readString(file, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testFileInvalidInCharsetLeftUntouched() throws Exception {
+        final Path file = temporaryFolder.resolve("Test.java");
+        final String source = "class Test {\n    String s = \"\u00e9\"; long b = 2l;\n}\n";
+        Files.writeString(file, source, StandardCharsets.ISO_8859_1);
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 2, 30, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .build()
+                .getFileViolations(file);
+        final Map<CheckstyleCheck, CheckConfiguration> configuration =
+                Map.of(CheckstyleCheck.UPPER_ELL, new CheckConfiguration(
+                        CheckstyleCheck.UPPER_ELL, Map.of("charset", "US-ASCII"), Map.of()));
+
+        assertFalse(new PatchEngine(configuration, configuration.keySet())
+                .apply(violations, configuration.keySet()));
+
+        assertEquals(source, Files.readString(file, StandardCharsets.ISO_8859_1));
+        assertTrue(violations.hasViolations(CheckstyleCheck.UPPER_ELL));
+    }
+
+    @Test
+    public void testConflictingEdits() {
+        final Path file = Path.of("Test.java");
+        final FileViolations violations = new ViolationIndex.Builder()
+                .add(file, 1, 1, SeverityLevel.ERROR, CheckstyleCheck.UPPER_ELL, "")
+                .build()
+                .getFileViolations(file);
+        final SourceText text = SourceText.of("0123456789".getBytes(StandardCharsets.UTF_8));
+        final FilePatch patch = new FilePatch(violations);
+        patch.add(TextEdit.insert(2, "a"), CheckstyleCheck.UPPER_ELL, 1, 1);
+        patch.add(TextEdit.insert(2, "a"), CheckstyleCheck.UPPER_ELL, 1, 1);
+        patch.add(TextEdit.delete(2, 2), CheckstyleCheck.UPPER_ELL, 1, 1);
+
+        assertFalse(patch.hasConflicts());
+        assertEquals("01a456789", new String(patch.apply(text), StandardCharsets.UTF_8));
+
+        patch.add(TextEdit.replace(3, 2, "b"), CheckstyleCheck.UPPER_ELL, 1, 1);
+        assertTrue(patch.hasConflicts());
+        assertThrows(IllegalStateException.class, () -> patch.apply(text));
+    }
+
+    @Test
+    public void testUnsupportedCheck() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new PatchEngine(createConfiguration(),
+                    EnumSet.of(CheckstyleCheck.FINAL_LOCAL_VARIABLE));
+        });
+    }
+}
@@ -27,16 +27,21 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.checkstyle.autofix.CheckstyleAutoFix;
 import org.checkstyle.autofix.InputClassRenamer;
 import org.checkstyle.autofix.RemoveViolationComments;
-import org.checkstyle.autofix.parser.CheckstyleViolation;
+import org.checkstyle.autofix.parser.FileViolations;
 import org.checkstyle.autofix.parser.ReportParser;
 import org.checkstyle.autofix.parser.SarifReportParser;
+import org.checkstyle.autofix.parser.ViolationIndex;
+import org.checkstyle.autofix.parser.ViolationIndexCache;
 import org.checkstyle.autofix.parser.XmlReportParser;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.params.provider.Arguments;
@@ -109,6 +114,7 @@ public abstract class AbstractRecipeTestSupport extends AbstractXmlTestSupport
         finally {
             Files.deleteIfExists(configPath);
             Files.deleteIfExists(reportPath);
+            Files.deleteIfExists(ViolationIndexCache.getCachePath(reportPath));
         }
     }
 
@@ -191,13 +197,21 @@ public abstract class AbstractRecipeTestSupport extends AbstractXmlTestSupport
         return testInputConfiguration.createConfiguration();
     }
 
-    private String[] convertToExpectedMessages(List<CheckstyleViolation> violations) {
-        return violations.stream()
-                .map(violation -> {
-                    return violation.getLine() + ":"
-                                + violation.getColumn() + ": " + violation.getMessage();
-                })
-                .toArray(String[]::new);
+    private String[] convertToExpectedMessages(ViolationIndex violations) {
+        final List<String> messages = new ArrayList<>();
+        for (FileViolations fileViolations : violations.getFiles()) {
+            IntStream.range(0, fileViolations.size())
+                    .boxed()
+                    .sorted(Comparator.<Integer>comparingInt(fileViolations::getLine)
+                            .thenComparingInt(fileViolations::getColumn))
+                    .map(row -> {
+                        return fileViolations.getLine(row) + ":"
+                                + fileViolations.getColumn(row) + ": "
+                                + fileViolations.getMessage(row);
+                    })
+                    .forEach(messages::add);
+        }
+        return messages.toArray(String[]::new);
     }
 
     private void testRecipe(String beforeCode, String expectedAfterCode,